@@ -0,0 +1,53 @@
+import http from "k6/http";
+import { check } from "k6";
+
+const BASE_URL = __ENV.BASE_URL || "http://localhost:8080/api/v1/tasks";
+const VUS = Number(__ENV.VUS || 5000);
+const SEED_TASKS = Number(__ENV.SEED_TASKS || 200);
+
+export const options = {
+  scenarios: {
+    tasks: {
+      executor: "ramping-vus",
+      startVUs: 0,
+      stages: [
+        { duration: "30s", target: VUS },
+        { duration: "2m", target: VUS },
+        { duration: "15s", target: 0 },
+      ],
+      gracefulRampDown: "10s",
+    },
+  },
+  summaryTrendStats: ["avg", "p(50)", "p(95)", "p(99)", "max"],
+};
+
+const JSON_HEADERS = { headers: { "Content-Type": "application/json" } };
+
+export function setup() {
+  const tasks = [];
+  for (let i = 0; i < SEED_TASKS; i++) {
+    tasks.push({ title: `Carga ${i}`, description: "Tarefa criada para o benchmark" });
+  }
+  const res = http.post(`${BASE_URL}/batch`, JSON.stringify({ tasks }), JSON_HEADERS);
+  return { ids: res.json("results").map((r) => r.task.id) };
+}
+
+export default function (data) {
+  const roll = Math.random();
+
+  if (roll < 0.7) {
+    const res = http.get(`${BASE_URL}?limit=20`, { tags: { name: "list" } });
+    check(res, { "list 200": (r) => r.status === 200 });
+  } else if (roll < 0.9) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const res = http.get(`${BASE_URL}/${id}`, { tags: { name: "find" } });
+    check(res, { "find 200": (r) => r.status === 200 });
+  } else {
+    const res = http.post(
+      BASE_URL,
+      JSON.stringify({ title: `VU ${__VU}`, description: null }),
+      Object.assign({ tags: { name: "create" } }, JSON_HEADERS)
+    );
+    check(res, { "create 201": (r) => r.status === 201 });
+  }
+}
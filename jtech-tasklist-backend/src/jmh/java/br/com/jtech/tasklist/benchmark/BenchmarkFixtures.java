@@ -0,0 +1,60 @@
+package br.com.jtech.tasklist.benchmark;
+
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskResponse;
+import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class BenchmarkFixtures {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 11, 20, 30);
+
+    private BenchmarkFixtures() {}
+
+    static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    static TaskEntity entity(int index) {
+        return TaskEntity.builder()
+                .id(UUID.randomUUID())
+                .title("Tarefa de benchmark " + index)
+                .description("Descrição com tamanho próximo ao de uma tarefa real, número " + index)
+                .status(TaskStatus.values()[index % TaskStatus.values().length])
+                .createdAt(NOW.plusSeconds(index))
+                .updatedAt(NOW.plusSeconds(index))
+                .version((long) index % 5)
+                .build();
+    }
+
+    static TaskResponse response(int index) {
+        TaskEntity entity = entity(index);
+        return TaskResponse.builder()
+                .id(entity.getId())
+                .title(entity.getTitle())
+                .description(entity.getDescription())
+                .status(entity.getStatus())
+                .statusDescription(entity.getStatus().getDescription())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .version(entity.getVersion())
+                .build();
+    }
+
+    static List<TaskResponse> responses(int size) {
+        List<TaskResponse> responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            responses.add(response(i));
+        }
+        return responses;
+    }
+}
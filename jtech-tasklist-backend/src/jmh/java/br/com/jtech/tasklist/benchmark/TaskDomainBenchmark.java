@@ -0,0 +1,100 @@
+package br.com.jtech.tasklist.benchmark;
+
+import br.com.jtech.tasklist.adapters.output.persistence.TaskPersistenceAdapter;
+import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import br.com.jtech.tasklist.adapters.output.persistence.mapper.TaskPersistenceMapper;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.TaskRepository;
+import br.com.jtech.tasklist.application.port.out.TaskChangeBusPort;
+import br.com.jtech.tasklist.config.infra.TaskListProperties;
+import br.com.jtech.tasklist.domain.exception.InvalidTaskException;
+import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskChanges;
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskDomainBenchmark {
+
+    private final LocalDateTime now = BenchmarkFixtures.NOW;
+    private Task task;
+    private TaskPersistenceAdapter adapter;
+
+    @Setup
+    public void setUp() {
+        task = new Task(UUID.randomUUID(), "Tarefa", "Descrição", TaskStatus.PENDING, now, now);
+
+        // O banco é substituído por stubs: mede-se a validação das alterações, a escolha do UPDATE
+        // e o mapeamento da linha devolvida, sem o custo de I/O.
+        TaskEntity entity = BenchmarkFixtures.entity(1);
+        TaskRepository repository = stub(TaskRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "updateDetailsReturning", "updateUnlessCompletedReturning" -> Optional.of(entity);
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+        TaskChangeBusPort changeBus = stub(TaskChangeBusPort.class, (proxy, method, args) -> null);
+        adapter = new TaskPersistenceAdapter(repository, null, Mappers.getMapper(TaskPersistenceMapper.class),
+                null, new TaskListProperties(), changeBus);
+    }
+
+    @Benchmark
+    public Task createTask() {
+        return new Task("Nova tarefa", "Descrição", now);
+    }
+
+    @Benchmark
+    public Task restoreTask() {
+        return new Task(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), now, now);
+    }
+
+    @Benchmark
+    public InvalidTaskException rejectBlankTitle() {
+        try {
+            new Task(" ", "Descrição", now);
+            return null;
+        } catch (InvalidTaskException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Task changeStatus() {
+        task.changeStatus(task.getStatus() == TaskStatus.PENDING ? TaskStatus.IN_PROGRESS : TaskStatus.PENDING, now);
+        return task;
+    }
+
+    @Benchmark
+    public TaskChanges buildChanges() {
+        return new TaskChanges(task.getId(), "Tarefa alterada", "Descrição", TaskStatus.IN_PROGRESS, 3L, now);
+    }
+
+    @Benchmark
+    public Optional<Task> updateDetails() {
+        return adapter.updateUnlessCompleted(
+                new TaskChanges(task.getId(), "Tarefa alterada", "Descrição", null, 3L, now));
+    }
+
+    @Benchmark
+    public Optional<Task> updateDetailsAndStatus() {
+        return adapter.updateUnlessCompleted(
+                new TaskChanges(task.getId(), "Tarefa alterada", "Descrição", TaskStatus.IN_PROGRESS, 3L, now));
+    }
+
+    private static <T> T stub(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.jtech.tasklist.benchmark;
+
+import br.com.jtech.tasklist.domain.model.TaskIdGenerator;
+import br.com.jtech.tasklist.domain.model.TimeOrderedTaskIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskIdBenchmark {
+
+    private final TaskIdGenerator random = TaskIdGenerator.RANDOM;
+    private final TaskIdGenerator timeOrdered = new TimeOrderedTaskIdGenerator(Clock.systemUTC());
+
+    @Benchmark
+    public UUID randomId() {
+        return random.nextId();
+    }
+
+    @Benchmark
+    public UUID timeOrderedId() {
+        return timeOrdered.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID timeOrderedIdContended() {
+        return timeOrdered.nextId();
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.jtech.tasklist.benchmark;
+
+import br.com.jtech.tasklist.domain.model.TaskIdGenerator;
+import br.com.jtech.tasklist.domain.model.TimeOrderedTaskIdGenerator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(1)
+public class TaskIdInsertBenchmark {
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    public String generator;
+
+    @Param("10000000")
+    public int rows;
+
+    @Param("1000")
+    public int batchSize;
+
+    @Param("jdbc:postgresql://localhost:5432/taskdb?reWriteBatchedInserts=true")
+    public String url;
+
+    @Param("task")
+    public String user;
+
+    @Param("task")
+    public String password;
+
+    private Connection connection;
+    private TaskIdGenerator ids;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Sizes {
+        public long indexBytes;
+        public long tableBytes;
+        public long walBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void connect() throws SQLException {
+        connection = DriverManager.getConnection(url, user, password);
+        connection.setAutoCommit(false);
+        ids = "RANDOM".equals(generator) ? TaskIdGenerator.RANDOM : new TimeOrderedTaskIdGenerator(Clock.systemUTC());
+    }
+
+    @Setup(Level.Iteration)
+    public void recreateTable() throws SQLException {
+        execute("DROP TABLE IF EXISTS bench_tasks");
+        execute("CREATE TABLE bench_tasks (id UUID PRIMARY KEY, title VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL)");
+    }
+
+    @TearDown(Level.Trial)
+    public void disconnect() throws SQLException {
+        execute("DROP TABLE IF EXISTS bench_tasks");
+        connection.close();
+    }
+
+    @Benchmark
+    public void insert(Sizes sizes) throws SQLException {
+        String walStart = queryString("SELECT pg_current_wal_lsn()::text");
+        Timestamp now = Timestamp.valueOf(BenchmarkFixtures.NOW);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_tasks (id, title, created_at) VALUES (?, ?, ?)")) {
+            for (int row = 1; row <= rows; row++) {
+                insert.setObject(1, ids.nextId());
+                insert.setString(2, "Tarefa de benchmark " + row);
+                insert.setTimestamp(3, now);
+                insert.addBatch();
+                if (row % batchSize == 0 || row == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        sizes.indexBytes = Long.parseLong(queryString("SELECT pg_relation_size('bench_tasks_pkey')"));
+        sizes.tableBytes = Long.parseLong(queryString("SELECT pg_relation_size('bench_tasks')"));
+        sizes.walBytes = Long.parseLong(queryString(
+                "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '" + walStart + "')::bigint"));
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+        connection.commit();
+    }
+
+    private String queryString(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getString(1);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.jtech.tasklist.benchmark;
+
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskJsonBenchmark {
+
+    private final ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+    private TaskResponse single;
+
+    @State(Scope.Benchmark)
+    public static class TaskList {
+
+        @Param({"1000", "100000"})
+        private int size;
+
+        private List<TaskResponse> items;
+
+        @Setup
+        public void setUp() {
+            items = BenchmarkFixtures.responses(size);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        single = BenchmarkFixtures.response(1);
+    }
+
+    @Benchmark
+    public byte[] serializeSingle() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializeListToBytes(TaskList tasks) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tasks.items);
+    }
+
+    @Benchmark
+    public void serializeListToStream(TaskList tasks) throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), tasks.items);
+    }
+}
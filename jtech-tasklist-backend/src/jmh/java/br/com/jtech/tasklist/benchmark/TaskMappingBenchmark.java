@@ -0,0 +1,55 @@
+package br.com.jtech.tasklist.benchmark;
+
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.web.mapper.TaskWebMapper;
+import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import br.com.jtech.tasklist.adapters.output.persistence.mapper.TaskPersistenceMapper;
+import br.com.jtech.tasklist.domain.model.Task;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskMappingBenchmark {
+
+    private final TaskPersistenceMapper persistenceMapper = Mappers.getMapper(TaskPersistenceMapper.class);
+    private final TaskWebMapper webMapper = Mappers.getMapper(TaskWebMapper.class);
+
+    private TaskEntity entity;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        entity = BenchmarkFixtures.entity(1);
+        task = persistenceMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Task entityToDomain() {
+        return persistenceMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public TaskEntity domainToEntity() {
+        return persistenceMapper.toEntity(task);
+    }
+
+    @Benchmark
+    public TaskResponse domainToResponse() {
+        return webMapper.toResponse(task);
+    }
+
+    @Benchmark
+    public TaskResponse entityToResponse() {
+        return webMapper.toResponse(persistenceMapper.toDomain(entity));
+    }
+}
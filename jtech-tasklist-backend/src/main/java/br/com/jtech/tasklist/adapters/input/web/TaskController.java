@@ -1,83 +1,300 @@
 package br.com.jtech.tasklist.adapters.input.web;
 
 import br.com.jtech.tasklist.adapters.input.web.documentation.TaskControllerDocs;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskBatchRequest;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskBatchResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskChangesResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskPageResponse;
 import br.com.jtech.tasklist.adapters.input.web.dto.TaskRequest;
 import br.com.jtech.tasklist.adapters.input.web.dto.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskSearchResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskStatsResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskStatusUpdateRequest;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskStatusUpdateResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskSuggestionResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskSummaryPageResponse;
 import br.com.jtech.tasklist.adapters.input.web.dto.TaskUpdateRequest;
+import br.com.jtech.tasklist.adapters.input.web.mapper.TaskChangeTokenCodec;
+import br.com.jtech.tasklist.adapters.input.web.mapper.TaskCursorCodec;
+import br.com.jtech.tasklist.adapters.input.web.mapper.TaskETags;
 import br.com.jtech.tasklist.adapters.input.web.mapper.TaskWebMapper;
+import br.com.jtech.tasklist.adapters.input.web.stream.TaskChangeBroadcaster;
+import br.com.jtech.tasklist.application.port.in.CreateTaskBatchUseCase;
 import br.com.jtech.tasklist.application.port.in.CreateTaskUseCase;
 import br.com.jtech.tasklist.application.port.in.DeleteTaskUseCase;
+import br.com.jtech.tasklist.application.port.in.ExportTasksUseCase;
 import br.com.jtech.tasklist.application.port.in.FindTaskUseCase;
+import br.com.jtech.tasklist.application.port.in.UpdateTaskStatusUseCase;
 import br.com.jtech.tasklist.application.port.in.UpdateTaskUseCase;
 import br.com.jtech.tasklist.application.port.in.command.CreateTaskCommand;
 import br.com.jtech.tasklist.application.port.in.command.DeleteTaskCommand;
 import br.com.jtech.tasklist.application.port.in.command.UpdateTaskCommand;
+import br.com.jtech.tasklist.application.port.in.query.FindTaskChangesQuery;
+import br.com.jtech.tasklist.application.port.in.query.FindTasksQuery;
+import br.com.jtech.tasklist.application.port.in.query.SearchTasksQuery;
+import br.com.jtech.tasklist.application.port.in.query.SuggestTasksQuery;
+import br.com.jtech.tasklist.application.port.in.result.TaskBatchItemResult;
+import br.com.jtech.tasklist.application.service.IdempotencyGuard;
+import br.com.jtech.tasklist.domain.model.IdempotentResponse;
 import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskChangeSet;
+import br.com.jtech.tasklist.domain.model.TaskPage;
+import br.com.jtech.tasklist.domain.model.TaskSearchPage;
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+import br.com.jtech.tasklist.domain.model.TaskStatusUpdate;
+import br.com.jtech.tasklist.domain.model.TaskSummaryPage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/tasks")
 @RequiredArgsConstructor
 @Slf4j
-@CrossOrigin(origins = "http://localhost:5173")
+@CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
 public class TaskController implements TaskControllerDocs {
 
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     private final CreateTaskUseCase createTaskUseCase;
+    private final CreateTaskBatchUseCase createTaskBatchUseCase;
     private final FindTaskUseCase findTaskUseCase;
     private final UpdateTaskUseCase updateTaskUseCase;
+    private final UpdateTaskStatusUseCase updateTaskStatusUseCase;
     private final DeleteTaskUseCase deleteTaskUseCase;
+    private final ExportTasksUseCase exportTasksUseCase;
     private final TaskWebMapper mapper;
+    private final TaskChangeBroadcaster broadcaster;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyGuard idempotencyGuard;
 
     @PostMapping
-    public ResponseEntity<TaskResponse> create(@Valid @RequestBody TaskRequest request) {
+    public ResponseEntity<TaskResponse> create(@Valid @RequestBody TaskRequest request,
+                                               @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
         log.info("POST /tasks - Criando tarefa: {}", request.getTitle());
 
-        Task createdTask = createTaskUseCase.create(mapper.toCreateTaskCommand(request));
-        return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(createdTask));
+        if (idempotencyKey == null) {
+            Task createdTask = createTaskUseCase.create(mapper.toCreateTaskCommand(request));
+            return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(createdTask));
+        }
+
+        IdempotentResponse response = idempotencyGuard.execute(idempotencyKey,
+                IdempotencyGuard.fingerprint(request.getTitle(), request.getDescription()),
+                () -> {
+                    Task createdTask = createTaskUseCase.create(mapper.toCreateTaskCommand(request));
+                    return IdempotentResponse.of(HttpStatus.CREATED.value(), writeJson(mapper.toResponse(createdTask)));
+                });
+        return ResponseEntity.status(response.status())
+                .header(IDEMPOTENT_REPLAYED, String.valueOf(response.replayed()))
+                .body(readJson(response.body()));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponse> createBatch(@Valid @RequestBody TaskBatchRequest request) {
+        log.info("POST /tasks/batch - Criando {} tarefas", request.getTasks().size());
+
+        List<TaskBatchItemResult> results = createTaskBatchUseCase.createAll(mapper.toCreateTaskBatchCommand(request));
+        int created = (int) results.stream().filter(TaskBatchItemResult::created).count();
+        TaskBatchResponse response = TaskBatchResponse.builder()
+                .created(created)
+                .failed(results.size() - created)
+                .results(results.stream().map(mapper::toBatchItemResponse).toList())
+                .build();
+
+        HttpStatus status = created == results.size() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
     }
 
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> findAll() {
-        log.info("GET /tasks - Listando todas");
+    public ResponseEntity<TaskPageResponse> findAll(@RequestParam(required = false) TaskStatus status,
+                                                    @RequestParam(required = false) String after,
+                                                    @RequestParam(defaultValue = "20") int limit,
+                                                    WebRequest webRequest) {
+        log.info("GET /tasks - Listando página (status={}, limit={})", status, limit);
+
+        FindTasksQuery query = new FindTasksQuery(status, TaskCursorCodec.decode(after), limit);
+        String eTag = TaskETags.forPage(findTaskUseCase.revision(), query);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        TaskPage page = findTaskUseCase.findAll(query);
+        TaskPageResponse response = TaskPageResponse.builder()
+                .items(page.items().stream().map(mapper::toResponse).toList())
+                .nextCursor(TaskCursorCodec.encode(page.nextCursor()))
+                .build();
+        return ResponseEntity.ok().eTag(eTag).body(response);
+    }
+
+    @GetMapping(params = "view=summary")
+    public ResponseEntity<TaskSummaryPageResponse> findSummaries(@RequestParam(required = false) TaskStatus status,
+                                                                 @RequestParam(required = false) String after,
+                                                                 @RequestParam(defaultValue = "20") int limit,
+                                                                 WebRequest webRequest) {
+        log.info("GET /tasks?view=summary - Listando resumo (status={}, limit={})", status, limit);
 
-        List<TaskResponse> responses = findTaskUseCase.findAll()
+        FindTasksQuery query = new FindTasksQuery(status, TaskCursorCodec.decode(after), limit);
+        String eTag = TaskETags.forSummaryPage(findTaskUseCase.revision(), query);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        TaskSummaryPage page = findTaskUseCase.findSummaries(query);
+        TaskSummaryPageResponse response = TaskSummaryPageResponse.builder()
+                .items(page.items().stream().map(mapper::toSummaryResponse).toList())
+                .nextCursor(TaskCursorCodec.encode(page.nextCursor()))
+                .build();
+        return ResponseEntity.ok().eTag(eTag).body(response);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResponse> search(@RequestParam(required = false) String q,
+                                                     @RequestParam(defaultValue = "0") int page,
+                                                     @RequestParam(defaultValue = "20") int limit,
+                                                     WebRequest webRequest) {
+        log.info("GET /tasks/search - Buscando tarefas (page={}, limit={})", page, limit);
+
+        SearchTasksQuery query = new SearchTasksQuery(q, page, limit);
+        String eTag = TaskETags.forSearch(findTaskUseCase.revision(), query);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        TaskSearchPage result = findTaskUseCase.search(query);
+        TaskSearchResponse response = TaskSearchResponse.builder()
+                .items(result.items().stream().map(mapper::toResponse).toList())
+                .page(query.page())
+                .hasMore(result.hasMore())
+                .build();
+        return ResponseEntity.ok().eTag(eTag).body(response);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TaskSuggestionResponse>> suggest(@RequestParam(required = false) String prefix,
+                                                                @RequestParam(defaultValue = "10") int limit) {
+        log.debug("GET /tasks/suggest - Sugerindo títulos (limit={})", limit);
+
+        List<TaskSuggestionResponse> suggestions = findTaskUseCase.suggest(new SuggestTasksQuery(prefix, limit))
                 .stream()
-                .map(mapper::toResponse)
+                .map(mapper::toSuggestionResponse)
                 .toList();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesResponse> changes(@RequestParam(required = false) String since,
+                                                       @RequestParam(defaultValue = "500") int limit) {
+        log.info("GET /tasks/changes - Sincronizando alterações (limit={})", limit);
+
+        TaskChangeSet changes = findTaskUseCase.findChanges(
+                new FindTaskChangesQuery(TaskChangeTokenCodec.decode(since), limit));
+        TaskChangesResponse response = TaskChangesResponse.builder()
+                .updated(changes.updated().stream().map(mapper::toResponse).toList())
+                .deleted(changes.deleted())
+                .nextToken(TaskChangeTokenCodec.encode(changes.next()))
+                .hasMore(changes.hasMore())
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsResponse> stats(WebRequest webRequest) {
+        log.info("GET /tasks/stats");
+
+        String eTag = TaskETags.forStats(findTaskUseCase.revision());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(mapper.toStatsResponse(findTaskUseCase.stats()));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        log.info("GET /tasks/export - Exportando tarefas em NDJSON");
+
+        StreamingResponseBody body = out -> exportTasksUseCase.exportAll(task -> writeLine(out, task));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        log.info("GET /tasks/stream - Novo assinante de eventos");
+        return broadcaster.subscribe();
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> findById(@PathVariable UUID id) {
+    public ResponseEntity<TaskResponse> findById(@PathVariable UUID id, WebRequest webRequest) {
         log.info("GET /tasks/{}", id);
 
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        String revision = findTaskUseCase.revision();
+        Optional<String> unchanged = TaskETags.findUnchangedSince(ifNoneMatch, id, revision);
+        if (unchanged.isPresent()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(unchanged.get()).build();
+        }
+
         Task task = findTaskUseCase.findById(id);
-        return ResponseEntity.ok(mapper.toResponse(task));
+        String eTag = TaskETags.forTask(task, revision);
+        if (TaskETags.matchesVersion(ifNoneMatch, task)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(mapper.toResponse(task));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<TaskResponse> update(@PathVariable UUID id, @Valid @RequestBody TaskUpdateRequest request) {
+    public ResponseEntity<TaskResponse> update(@PathVariable UUID id,
+                                               @Valid @RequestBody TaskUpdateRequest request,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PUT /tasks/{}", id);
 
+        if (ifMatch != null) {
+            request.setVersion(TaskETags.parseVersion(ifMatch, id));
+        }
         UpdateTaskCommand task = mapper.toUpdateTaskCommand(id, request);
         Task updatedTask = updateTaskUseCase.update(task);
-        return ResponseEntity.ok(mapper.toResponse(updatedTask));
+        return ResponseEntity.ok()
+                .eTag(TaskETags.forTask(updatedTask))
+                .body(mapper.toResponse(updatedTask));
+    }
+
+    @PatchMapping("/status")
+    public ResponseEntity<TaskStatusUpdateResponse> updateStatus(@Valid @RequestBody TaskStatusUpdateRequest request) {
+        log.info("PATCH /tasks/status - Alterando {} tarefas para {}", request.getIds().size(), request.getStatus());
+
+        TaskStatusUpdate result = updateTaskStatusUseCase.updateStatus(mapper.toUpdateTaskStatusCommand(request));
+        HttpStatus status = result.skippedAny() ? HttpStatus.MULTI_STATUS : HttpStatus.OK;
+        return ResponseEntity.status(status).body(mapper.toStatusUpdateResponse(result));
     }
 
     @DeleteMapping("/{id}")
@@ -87,4 +304,29 @@ public class TaskController implements TaskControllerDocs {
         deleteTaskUseCase.delete(new DeleteTaskCommand(id));
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private String writeJson(TaskResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private TaskResponse readJson(String body) {
+        try {
+            return objectMapper.readValue(body, TaskResponse.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void writeLine(OutputStream out, Task task) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(mapper.toResponse(task)));
+            out.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
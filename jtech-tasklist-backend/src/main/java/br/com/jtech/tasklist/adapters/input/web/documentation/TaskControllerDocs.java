@@ -1,14 +1,30 @@
 package br.com.jtech.tasklist.adapters.input.web.documentation;
 
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskBatchRequest;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskBatchResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskChangeResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskChangesResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskPageResponse;
 import br.com.jtech.tasklist.adapters.input.web.dto.TaskRequest;
 import br.com.jtech.tasklist.adapters.input.web.dto.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskSearchResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskStatsResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskStatusUpdateRequest;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskStatusUpdateResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskSuggestionResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskSummaryPageResponse;
 import br.com.jtech.tasklist.adapters.input.web.dto.TaskUpdateRequest;
+import br.com.jtech.tasklist.domain.model.TaskStatus;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -18,25 +34,155 @@ public interface TaskControllerDocs {
 
     @Operation(
             summary = "Cria uma nova tarefa",
-            description = "Recebe título e descrição e cria uma nova tarefa no sistema.",
+            description = "Recebe título e descrição e cria uma nova tarefa no sistema. Com o cabeçalho "
+                    + "Idempotency-Key, repetições com a mesma chave devolvem a resposta da primeira criação "
+                    + "(com Idempotent-Replayed: true) em vez de criar outra tarefa.",
             responses = {
                     @ApiResponse(responseCode = "201", description = "Tarefa criada com sucesso",
                             content = @Content(schema = @Schema(implementation = TaskResponse.class))),
                     @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+                    @ApiResponse(responseCode = "409", description = "Requisição com a mesma chave ainda em processamento"),
+                    @ApiResponse(responseCode = "422", description = "Chave de idempotência já usada com outro conteúdo"),
                     @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
             }
     )
-    ResponseEntity<TaskResponse> create(TaskRequest request);
+    ResponseEntity<TaskResponse> create(TaskRequest request,
+                                        @Parameter(description = "Chave única da operação para repetições seguras")
+                                        String idempotencyKey);
 
     @Operation(
-            summary = "Busca todas as tarefas",
-            description = "Retorna os dados de todas as tarefas.",
+            summary = "Cria tarefas em lote",
+            description = "Recebe até " + TaskBatchRequest.MAX_SIZE + " tarefas, valida cada uma e persiste as válidas "
+                    + "em uma única transação. O resultado informa o desfecho de cada item pelo índice.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "Tarefas encontradas",
-                            content = @Content(schema = @Schema(implementation = TaskResponse.class)))
+                    @ApiResponse(responseCode = "201", description = "Todas as tarefas foram criadas",
+                            content = @Content(schema = @Schema(implementation = TaskBatchResponse.class))),
+                    @ApiResponse(responseCode = "207", description = "Parte das tarefas foi rejeitada",
+                            content = @Content(schema = @Schema(implementation = TaskBatchResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do limite")
             }
     )
-    ResponseEntity<List<TaskResponse>> findAll();
+    ResponseEntity<TaskBatchResponse> createBatch(TaskBatchRequest request);
+
+    @Operation(
+            summary = "Lista as tarefas paginadas",
+            description = "Retorna uma página de tarefas ordenada por data de criação, opcionalmente filtrada por status. "
+                    + "Use o campo nextCursor da resposta no parâmetro after para buscar a próxima página. "
+                    + "Envie o ETag recebido em If-None-Match para obter 304 enquanto nenhuma tarefa mudar.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Página de tarefas",
+                            content = @Content(schema = @Schema(implementation = TaskPageResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Nenhuma tarefa mudou desde o ETag informado"),
+                    @ApiResponse(responseCode = "400", description = "Cursor ou status inválido")
+            }
+    )
+    ResponseEntity<TaskPageResponse> findAll(
+            @Parameter(description = "Filtra as tarefas pelo status") TaskStatus status,
+            @Parameter(description = "Cursor opaco retornado na página anterior") String after,
+            @Parameter(description = "Quantidade máxima de itens (1 a 100)") int limit,
+            WebRequest webRequest);
+
+    @Operation(
+            summary = "Lista o resumo das tarefas paginado",
+            description = "Variante de GET /tasks selecionada por view=summary. Retorna apenas id, título, status e "
+                    + "data de atualização, lidos por projeção sem carregar as entidades. Paginação, filtro e ETag "
+                    + "funcionam como na listagem completa.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Página com o resumo das tarefas",
+                            content = @Content(schema = @Schema(implementation = TaskSummaryPageResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Nenhuma tarefa mudou desde o ETag informado"),
+                    @ApiResponse(responseCode = "400", description = "Cursor ou status inválido")
+            }
+    )
+    ResponseEntity<TaskSummaryPageResponse> findSummaries(
+            @Parameter(description = "Filtra as tarefas pelo status") TaskStatus status,
+            @Parameter(description = "Cursor opaco retornado na página anterior") String after,
+            @Parameter(description = "Quantidade máxima de itens (1 a 100)") int limit,
+            WebRequest webRequest);
+
+    @Operation(
+            summary = "Busca tarefas por texto",
+            description = "Procura o termo no título e na descrição e devolve as tarefas ordenadas por relevância, "
+                    + "com ocorrências no título antes das ocorrências apenas na descrição. Use page para avançar "
+                    + "enquanto hasMore for verdadeiro.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Página de resultados da busca",
+                            content = @Content(schema = @Schema(implementation = TaskSearchResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Nenhuma tarefa mudou desde o ETag informado"),
+                    @ApiResponse(responseCode = "400", description = "Termo de busca ausente ou longo demais")
+            }
+    )
+    ResponseEntity<TaskSearchResponse> search(
+            @Parameter(description = "Termo de busca (até 200 caracteres)") String q,
+            @Parameter(description = "Número da página, começando em 0") int page,
+            @Parameter(description = "Quantidade máxima de itens (1 a 50)") int limit,
+            WebRequest webRequest);
+
+    @Operation(
+            summary = "Sugere tarefas pelo início do título",
+            description = "Consulta um índice em memória, sem acessar o banco, e devolve as tarefas cujo título "
+                    + "começa com o prefixo informado, ignorando maiúsculas e acentos. Prefixo vazio não gera "
+                    + "sugestões.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Sugestões em ordem alfabética",
+                            content = @Content(schema = @Schema(implementation = TaskSuggestionResponse.class)))
+            }
+    )
+    ResponseEntity<List<TaskSuggestionResponse>> suggest(
+            @Parameter(description = "Início do título digitado") String prefix,
+            @Parameter(description = "Quantidade máxima de sugestões (1 a 20)") int limit);
+
+    @Operation(
+            summary = "Lista as alterações desde um token",
+            description = "Retorna as tarefas criadas ou alteradas e os IDs excluídos desde o token informado. "
+                    + "Sem since, devolve apenas o token inicial. Enquanto hasMore for verdadeiro, repita a chamada "
+                    + "com o nextToken recebido. Alterações dos últimos segundos só aparecem após a janela de "
+                    + "assentamento, para que transações ainda abertas não sejam perdidas.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Alterações desde o token",
+                            content = @Content(schema = @Schema(implementation = TaskChangesResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Token de sincronização inválido")
+            }
+    )
+    ResponseEntity<TaskChangesResponse> changes(
+            @Parameter(description = "Token opaco retornado na sincronização anterior") String since,
+            @Parameter(description = "Quantidade máxima de itens de cada tipo (1 a 1000)") int limit);
+
+    @Operation(
+            summary = "Contagem de tarefas por status",
+            description = "Retorna o total de tarefas e a quantidade em cada status.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Contagens por status",
+                            content = @Content(schema = @Schema(implementation = TaskStatsResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Nenhuma tarefa mudou desde o ETag informado")
+            }
+    )
+    ResponseEntity<TaskStatsResponse> stats(WebRequest webRequest);
+
+    @Operation(
+            summary = "Exporta todas as tarefas",
+            description = "Transmite todas as tarefas em NDJSON (um objeto JSON por linha), "
+                    + "lendo o banco de forma incremental.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Exportação iniciada",
+                            content = @Content(mediaType = "application/x-ndjson",
+                                    schema = @Schema(implementation = TaskResponse.class)))
+            }
+    )
+    ResponseEntity<StreamingResponseBody> export();
+
+    @Operation(
+            summary = "Acompanha as alterações de tarefas",
+            description = "Abre um stream Server-Sent Events com os eventos task.created, task.created_batch, "
+                    + "task.updated, task.updated_batch, task.deleted e task.resync. O id de cada evento é a revisão da lista após a alteração. "
+                    + "Clientes que não acompanham o ritmo dos eventos são desconectados e devem recarregar a lista.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Stream de eventos aberto",
+                            content = @Content(mediaType = "text/event-stream",
+                                    schema = @Schema(implementation = TaskChangeResponse.class)))
+            }
+    )
+    SseEmitter stream();
 
     @Operation(
             summary = "Busca uma tarefa pelo ID",
@@ -44,22 +190,44 @@ public interface TaskControllerDocs {
             responses = {
                     @ApiResponse(responseCode = "200", description = "Tarefa encontrada",
                             content = @Content(schema = @Schema(implementation = TaskResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Tarefa inalterada desde o ETag informado"),
                     @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
             }
     )
-    ResponseEntity<TaskResponse> findById(UUID id);
+    ResponseEntity<TaskResponse> findById(UUID id, WebRequest webRequest);
 
     @Operation(
             summary = "Atualiza os dados de uma tarefa",
-            description = "Atualiza título, descrição e/ou status de uma tarefa específica.",
+            description = "Atualiza título, descrição e/ou status de uma tarefa específica. "
+                    + "Envie o ETag da tarefa em If-Match (ou o campo version) para só aplicar a alteração "
+                    + "se ninguém a modificou desde a leitura. Tags fracas (W/) em If-Match retornam 412.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Tarefa atualizada",
                             content = @Content(schema = @Schema(implementation = TaskResponse.class))),
                     @ApiResponse(responseCode = "400", description = "Dados inválidos"),
-                    @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+                    @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+                    @ApiResponse(responseCode = "412", description = "A tarefa foi alterada desde a versão informada")
+            }
+    )
+    ResponseEntity<TaskResponse> update(
+            UUID id,
+            TaskUpdateRequest request,
+            @Parameter(description = "ETag da versão da tarefa que está sendo alterada") String ifMatch);
+
+    @Operation(
+            summary = "Altera o status de várias tarefas",
+            description = "Recebe até " + TaskStatusUpdateRequest.MAX_SIZE + " IDs e aplica o novo status em uma única "
+                    + "transação. Tarefas concluídas não mudam de status e são informadas em alreadyCompleted; "
+                    + "IDs inexistentes são informados em notFound.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Todas as tarefas foram alteradas",
+                            content = @Content(schema = @Schema(implementation = TaskStatusUpdateResponse.class))),
+                    @ApiResponse(responseCode = "207", description = "Parte das tarefas foi ignorada",
+                            content = @Content(schema = @Schema(implementation = TaskStatusUpdateResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Lista vazia, acima do limite ou status inválido")
             }
     )
-    ResponseEntity<TaskResponse> update(UUID id, TaskUpdateRequest request);
+    ResponseEntity<TaskStatusUpdateResponse> updateStatus(TaskStatusUpdateRequest request);
 
     @Operation(
             summary = "Remove uma tarefa",
@@ -0,0 +1,18 @@
+package br.com.jtech.tasklist.adapters.input.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchItemResponse {
+
+    private int index;
+    private boolean created;
+    private TaskResponse task;
+    private String error;
+}
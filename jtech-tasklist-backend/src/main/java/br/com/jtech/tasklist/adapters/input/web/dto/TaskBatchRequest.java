@@ -0,0 +1,23 @@
+package br.com.jtech.tasklist.adapters.input.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchRequest {
+
+    public static final int MAX_SIZE = 1000;
+
+    @NotEmpty(message = "O lote deve conter ao menos uma tarefa")
+    @Size(max = MAX_SIZE, message = "O lote aceita no máximo " + MAX_SIZE + " tarefas")
+    private List<TaskRequest> tasks;
+}
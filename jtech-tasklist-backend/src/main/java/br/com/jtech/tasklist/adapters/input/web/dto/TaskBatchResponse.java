@@ -0,0 +1,19 @@
+package br.com.jtech.tasklist.adapters.input.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResponse {
+
+    private int created;
+    private int failed;
+    private List<TaskBatchItemResponse> results;
+}
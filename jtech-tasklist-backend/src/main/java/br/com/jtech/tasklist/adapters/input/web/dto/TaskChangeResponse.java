@@ -0,0 +1,23 @@
+package br.com.jtech.tasklist.adapters.input.web.dto;
+
+import br.com.jtech.tasklist.domain.event.TaskChangeType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskChangeResponse {
+
+    private TaskChangeType type;
+    private UUID id;
+    private TaskResponse task;
+    private Integer count;
+}
@@ -0,0 +1,21 @@
+package br.com.jtech.tasklist.adapters.input.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesResponse {
+
+    private List<TaskResponse> updated;
+    private List<UUID> deleted;
+    private String nextToken;
+    private boolean hasMore;
+}
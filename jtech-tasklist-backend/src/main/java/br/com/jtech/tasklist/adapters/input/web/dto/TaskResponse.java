@@ -22,4 +22,5 @@ public class TaskResponse {
     private String statusDescription;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
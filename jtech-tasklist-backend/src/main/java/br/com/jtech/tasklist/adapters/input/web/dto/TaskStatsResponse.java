@@ -0,0 +1,19 @@
+package br.com.jtech.tasklist.adapters.input.web.dto;
+
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsResponse {
+
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+}
@@ -0,0 +1,29 @@
+package br.com.jtech.tasklist.adapters.input.web.dto;
+
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusUpdateRequest {
+
+    public static final int MAX_SIZE = 10_000;
+
+    @NotEmpty(message = "Informe ao menos uma tarefa")
+    @Size(max = MAX_SIZE, message = "A alteração aceita no máximo " + MAX_SIZE + " tarefas")
+    private List<@NotNull(message = "O ID da tarefa é obrigatório") UUID> ids;
+
+    @NotNull(message = "O status da tarefa é obrigatório")
+    private TaskStatus status;
+}
@@ -0,0 +1,22 @@
+package br.com.jtech.tasklist.adapters.input.web.dto;
+
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSummaryResponse {
+
+    private UUID id;
+    private String title;
+    private TaskStatus status;
+    private LocalDateTime updatedAt;
+}
@@ -22,4 +22,6 @@ public class TaskUpdateRequest {
 
     @NotNull(message = "O status da tarefa é obrigatório")
     private TaskStatus status;
+
+    private Long version;
 }
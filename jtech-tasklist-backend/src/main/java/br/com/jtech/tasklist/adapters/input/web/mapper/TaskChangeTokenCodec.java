@@ -0,0 +1,50 @@
+package br.com.jtech.tasklist.adapters.input.web.mapper;
+
+import br.com.jtech.tasklist.domain.exception.InvalidTaskException;
+import br.com.jtech.tasklist.domain.model.TaskChangeToken;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+public final class TaskChangeTokenCodec {
+
+    private static final String SEPARATOR = "|";
+    private static final Pattern SPLITTER = Pattern.compile(Pattern.quote(SEPARATOR));
+
+    private TaskChangeTokenCodec() {}
+
+    public static String encode(TaskChangeToken token) {
+        if (token == null) {
+            return null;
+        }
+        String raw = String.join(SEPARATOR,
+                token.tasks().at().toString(), token.tasks().id().toString(),
+                token.tombstones().at().toString(), token.tombstones().id().toString());
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = SPLITTER.split(raw);
+            if (parts.length != 4) {
+                throw InvalidTaskException.invalidChangeToken();
+            }
+            return new TaskChangeToken(
+                    new TaskChangeToken.Position(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1])),
+                    new TaskChangeToken.Position(LocalDateTime.parse(parts[2]), UUID.fromString(parts[3]))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw InvalidTaskException.invalidChangeToken();
+        }
+    }
+}
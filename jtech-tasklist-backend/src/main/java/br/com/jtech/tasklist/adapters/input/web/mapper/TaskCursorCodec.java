@@ -0,0 +1,46 @@
+package br.com.jtech.tasklist.adapters.input.web.mapper;
+
+import br.com.jtech.tasklist.domain.exception.InvalidTaskException;
+import br.com.jtech.tasklist.domain.model.TaskCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+public final class TaskCursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private TaskCursorCodec() {}
+
+    public static String encode(TaskCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.createdAt() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw InvalidTaskException.invalidCursor();
+            }
+            return new TaskCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw InvalidTaskException.invalidCursor();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.jtech.tasklist.adapters.input.web.mapper;
+
+import br.com.jtech.tasklist.application.port.in.query.FindTasksQuery;
+import br.com.jtech.tasklist.application.port.in.query.SearchTasksQuery;
+import br.com.jtech.tasklist.domain.exception.TaskVersionConflictException;
+import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public final class TaskETags {
+
+    private static final String VERSION_SEPARATOR = ".v";
+    private static final String REVISION_SEPARATOR = "@";
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final int DIGEST_BYTES = 12;
+
+    private TaskETags() {}
+
+    public static String forTask(Task task) {
+        return quote(task.getId() + VERSION_SEPARATOR + task.getVersion());
+    }
+
+    public static String forTask(Task task, String revision) {
+        return quote(task.getId() + VERSION_SEPARATOR + task.getVersion() + REVISION_SEPARATOR + revision);
+    }
+
+    public static Optional<String> findUnchangedSince(String ifNoneMatch, UUID id, String revision) {
+        String prefix = id + VERSION_SEPARATOR;
+        String suffix = REVISION_SEPARATOR + revision;
+        return candidates(ifNoneMatch)
+                .filter(value -> value.startsWith(prefix) && value.endsWith(suffix))
+                .map(TaskETags::quote)
+                .findFirst();
+    }
+
+    public static boolean matchesVersion(String ifNoneMatch, Task task) {
+        String expected = task.getId() + VERSION_SEPARATOR + task.getVersion();
+        return candidates(ifNoneMatch).anyMatch(value -> stripRevision(value).equals(expected));
+    }
+
+    public static Long parseVersion(String ifMatch, UUID id) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        // If-Match usa comparação forte (RFC 9110, 13.1.1): uma tag fraca nunca corresponde.
+        if (value.startsWith(WEAK_PREFIX)) {
+            throw new TaskVersionConflictException(id);
+        }
+        value = stripRevision(value.replace("\"", ""));
+        String prefix = id + VERSION_SEPARATOR;
+        if (!value.startsWith(prefix)) {
+            throw new TaskVersionConflictException(id);
+        }
+        try {
+            return Long.parseLong(value.substring(prefix.length()));
+        } catch (NumberFormatException ex) {
+            throw new TaskVersionConflictException(id);
+        }
+    }
+
+    public static String forPage(String revision, FindTasksQuery query) {
+        return quote(revision + "-" + digest(String.valueOf(query.status()), cursor(query), String.valueOf(query.limit())));
+    }
+
+    public static String forSummaryPage(String revision, FindTasksQuery query) {
+        return quote(revision + "-summary-"
+                + digest(String.valueOf(query.status()), cursor(query), String.valueOf(query.limit())));
+    }
+
+    public static String forSearch(String revision, SearchTasksQuery query) {
+        return quote(revision + "-search-"
+                + digest(query.text(), String.valueOf(query.page()), String.valueOf(query.limit())));
+    }
+
+    public static String forStats(String revision) {
+        return quote(revision + "-stats");
+    }
+
+    private static String cursor(FindTasksQuery query) {
+        TaskCursor after = query.after();
+        return after == null ? "" : after.createdAt() + "/" + after.id();
+    }
+
+    private static String digest(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, DIGEST_BYTES);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Stream<String> candidates(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return Stream.empty();
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(value -> value.startsWith(WEAK_PREFIX) ? value.substring(WEAK_PREFIX.length()) : value)
+                .map(value -> value.replace("\"", ""));
+    }
+
+    private static String stripRevision(String value) {
+        int separator = value.indexOf(REVISION_SEPARATOR);
+        return separator < 0 ? value : value.substring(0, separator);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
@@ -1,11 +1,27 @@
 package br.com.jtech.tasklist.adapters.input.web.mapper;
 
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskBatchItemResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskBatchRequest;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskChangeResponse;
 import br.com.jtech.tasklist.adapters.input.web.dto.TaskRequest;
 import br.com.jtech.tasklist.adapters.input.web.dto.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskStatsResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskStatusUpdateRequest;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskStatusUpdateResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskSuggestionResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskSummaryResponse;
 import br.com.jtech.tasklist.adapters.input.web.dto.TaskUpdateRequest;
+import br.com.jtech.tasklist.application.port.in.command.CreateTaskBatchCommand;
 import br.com.jtech.tasklist.application.port.in.command.CreateTaskCommand;
 import br.com.jtech.tasklist.application.port.in.command.UpdateTaskCommand;
+import br.com.jtech.tasklist.application.port.in.command.UpdateTaskStatusCommand;
+import br.com.jtech.tasklist.application.port.in.result.TaskBatchItemResult;
+import br.com.jtech.tasklist.domain.event.TaskChangedEvent;
 import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskStats;
+import br.com.jtech.tasklist.domain.model.TaskStatusUpdate;
+import br.com.jtech.tasklist.domain.model.TaskSuggestion;
+import br.com.jtech.tasklist.domain.model.TaskSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -16,8 +32,26 @@ import java.util.UUID;
 public interface TaskWebMapper {
 
     CreateTaskCommand toCreateTaskCommand(TaskRequest request);
+    CreateTaskBatchCommand toCreateTaskBatchCommand(TaskBatchRequest request);
+    @Mapping(target = "expectedVersion", source = "request.version")
     UpdateTaskCommand toUpdateTaskCommand(UUID id, TaskUpdateRequest request);
+    UpdateTaskStatusCommand toUpdateTaskStatusCommand(TaskStatusUpdateRequest request);
 
     @Mapping(target = "statusDescription", source = "status.description")
     TaskResponse toResponse(Task domain);
+
+    TaskSummaryResponse toSummaryResponse(TaskSummary summary);
+
+    TaskSuggestionResponse toSuggestionResponse(TaskSuggestion suggestion);
+
+    @Mapping(target = "created", expression = "java(result.created())")
+    TaskBatchItemResponse toBatchItemResponse(TaskBatchItemResult result);
+
+    @Mapping(target = "total", expression = "java(stats.total())")
+    @Mapping(target = "byStatus", expression = "java(stats.countByStatus())")
+    TaskStatsResponse toStatsResponse(TaskStats stats);
+
+    TaskStatusUpdateResponse toStatusUpdateResponse(TaskStatusUpdate update);
+
+    TaskChangeResponse toChangeResponse(TaskChangedEvent event);
 }
@@ -0,0 +1,146 @@
+package br.com.jtech.tasklist.adapters.input.web.stream;
+
+import br.com.jtech.tasklist.adapters.input.web.mapper.TaskWebMapper;
+import br.com.jtech.tasklist.domain.event.TaskChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class TaskChangeBroadcaster {
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("ping").build();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong dropped = new AtomicLong();
+    private final TaskWebMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final Duration heartbeat;
+    private final Duration timeout;
+
+    public TaskChangeBroadcaster(TaskWebMapper mapper, ObjectMapper objectMapper, int bufferSize, Duration heartbeat,
+                                 Duration timeout) {
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+        subscribers.add(subscriber);
+        subscriber.start();
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> frame = toFrame(event);
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.offer(frame)) {
+                dropped.incrementAndGet();
+                log.warn("Assinante do stream de tarefas removido por não acompanhar os eventos");
+                subscriber.evict();
+            }
+        }
+    }
+
+    public int subscribers() {
+        return subscribers.size();
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    private Set<DataWithMediaType> toFrame(TaskChangedEvent event) {
+        try {
+            String payload = objectMapper.writeValueAsString(mapper.toChangeResponse(event));
+            return SseEmitter.event()
+                    .id(event.revision())
+                    .name("task." + event.type().name().toLowerCase(Locale.ROOT))
+                    .data(payload, MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Falha ao serializar evento de tarefa", ex);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean open = new AtomicBoolean(true);
+        private volatile boolean evicted;
+        private volatile Thread drainer;
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        private void start() {
+            drainer = Thread.ofVirtual().name("task-stream-subscriber").start(this::drain);
+        }
+
+        private boolean offer(Set<DataWithMediaType> frame) {
+            return queue.offer(frame);
+        }
+
+        private void drain() {
+            try {
+                while (open.get()) {
+                    Set<DataWithMediaType> frame = queue.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                    emitter.send(frame != null ? frame : HEARTBEAT);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException ex) {
+                log.debug("Assinante do stream de tarefas desconectado: {}", ex.getMessage());
+                close();
+            } finally {
+                if (evicted) {
+                    emitter.complete();
+                }
+            }
+        }
+
+        private void evict() {
+            evicted = true;
+            close();
+        }
+
+        private void close() {
+            if (open.compareAndSet(true, false)) {
+                subscribers.remove(this);
+                if (drainer != null && drainer != Thread.currentThread()) {
+                    drainer.interrupt();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.jtech.tasklist.adapters.output.notification;
+
+import br.com.jtech.tasklist.application.port.out.TaskChangeBusPort;
+import br.com.jtech.tasklist.domain.event.TaskChangeNotice;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class InMemoryTaskChangeBus implements TaskChangeBusPort {
+
+    private final List<InMemoryTaskChangeBus> peers = new CopyOnWriteArrayList<>();
+    private final List<Consumer<TaskChangeNotice>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> resyncListeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(TaskChangeNotice notice) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    peers.forEach(peer -> peer.receive(notice));
+                }
+            });
+        } else {
+            peers.forEach(peer -> peer.receive(notice));
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<TaskChangeNotice> listener, Runnable onResync) {
+        listeners.add(listener);
+        resyncListeners.add(onResync);
+    }
+
+    @Override
+    public boolean hasCaughtUpWith(Instant writtenAt) {
+        return true;
+    }
+
+    public void connect(InMemoryTaskChangeBus peer) {
+        peers.add(peer);
+        peer.peers.add(this);
+    }
+
+    public void receive(TaskChangeNotice notice) {
+        listeners.forEach(listener -> listener.accept(notice));
+    }
+
+    public void reconnect() {
+        resyncListeners.forEach(Runnable::run);
+    }
+}
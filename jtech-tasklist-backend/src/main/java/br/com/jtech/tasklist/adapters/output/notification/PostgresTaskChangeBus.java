@@ -0,0 +1,149 @@
+package br.com.jtech.tasklist.adapters.output.notification;
+
+import br.com.jtech.tasklist.application.port.out.TaskChangeBusPort;
+import br.com.jtech.tasklist.domain.event.TaskChangeNotice;
+import br.com.jtech.tasklist.domain.event.TaskChangeType;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Slf4j
+public class PostgresTaskChangeBus implements TaskChangeBusPort, AutoCloseable {
+
+    private static final String SEPARATOR = ":";
+
+    private final EntityManager entityManager;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final Duration pollInterval;
+    private final Duration reconnectDelay;
+    private final Duration deliveryGrace;
+    private final Clock clock;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<TaskChangeNotice>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> resyncListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+    private volatile Instant deliveredUntil;
+    private Thread listenerThread;
+
+    public PostgresTaskChangeBus(EntityManager entityManager, String url, String username, String password,
+                                 String channel, Duration pollInterval, Duration reconnectDelay,
+                                 Duration deliveryGrace, Clock clock) {
+        this.entityManager = entityManager;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.channel = channel;
+        this.pollInterval = pollInterval;
+        this.reconnectDelay = reconnectDelay;
+        this.deliveryGrace = deliveryGrace;
+        this.clock = clock;
+    }
+
+    @Override
+    public void publish(TaskChangeNotice notice) {
+        String payload = String.join(SEPARATOR, nodeId, notice.type().name(),
+                notice.id() != null ? notice.id().toString() : "");
+        entityManager.createNativeQuery("SELECT pg_notify(?1, ?2)")
+                .setParameter(1, channel)
+                .setParameter(2, payload)
+                .getSingleResult();
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<TaskChangeNotice> listener, Runnable onResync) {
+        listeners.add(listener);
+        resyncListeners.add(onResync);
+        if (!running) {
+            running = true;
+            listenerThread = Thread.ofVirtual().name("task-change-listener").start(this::listen);
+        }
+    }
+
+    @Override
+    public boolean hasCaughtUpWith(Instant writtenAt) {
+        Instant delivered = deliveredUntil;
+        return delivered != null && writtenAt.plus(deliveryGrace).isBefore(delivered);
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                Instant listeningSince = clock.instant();
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Escutando alterações de tarefas no canal {}", channel);
+                resyncListeners.forEach(Runnable::run);
+                deliveredUntil = listeningSince;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    // Tudo o que foi confirmado antes desta espera já chegou quando ela termina.
+                    Instant polledAt = clock.instant();
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollInterval.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                    deliveredUntil = polledAt;
+                }
+            } catch (SQLException | RuntimeException ex) {
+                deliveredUntil = null;
+                if (!running) {
+                    return;
+                }
+                log.warn("Conexão de escuta de tarefas perdida, reconectando em {}: {}", reconnectDelay, ex.getMessage());
+                sleep(reconnectDelay);
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        String[] parts = payload.split(SEPARATOR, -1);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            TaskChangeNotice notice = new TaskChangeNotice(
+                    TaskChangeType.valueOf(parts[1]),
+                    parts[2].isEmpty() ? null : UUID.fromString(parts[2]));
+            listeners.forEach(listener -> listener.accept(notice));
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao aplicar notificação de tarefa {}: {}", payload, ex.getMessage());
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.jtech.tasklist.adapters.output.persistence;
+
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.IdempotencyKeyRepository;
+import br.com.jtech.tasklist.application.port.out.IdempotencyKeyRepositoryPort;
+import br.com.jtech.tasklist.domain.model.IdempotencyRecord;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@Timed("tasklist.repository")
+public class IdempotencyKeyPersistenceAdapter implements IdempotencyKeyRepositoryPort {
+
+    private final IdempotencyKeyRepository jpaRepository;
+
+    @Override
+    public boolean claim(String key, String requestHash, UUID token, LocalDateTime now, LocalDateTime lockedUntil) {
+        try {
+            return jpaRepository.insertPending(key, requestHash, now, token, lockedUntil) == 1;
+        } catch (DataIntegrityViolationException ex) {
+            return jpaRepository.takeOverExpired(key, requestHash, token, now, lockedUntil) == 1;
+        }
+    }
+
+    @Override
+    @Transactional
+    public Optional<IdempotencyRecord> find(String key) {
+        return jpaRepository.findById(key)
+                .map(entity -> new IdempotencyRecord(entity.getRequestHash(), entity.getResponseStatus(),
+                        entity.getResponseBody()));
+    }
+
+    @Override
+    public boolean complete(String key, UUID token, int status, String body, LocalDateTime now) {
+        return jpaRepository.complete(key, token, status, body, now) == 1;
+    }
+
+    @Override
+    public void release(String key, UUID token) {
+        jpaRepository.deletePending(key, token);
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime before) {
+        return jpaRepository.deleteCreatedBefore(before);
+    }
+}
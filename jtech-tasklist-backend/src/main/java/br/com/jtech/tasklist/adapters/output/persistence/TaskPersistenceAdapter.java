@@ -1,55 +1,415 @@
 package br.com.jtech.tasklist.adapters.output.persistence;
 
 import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskTombstoneEntity;
 import br.com.jtech.tasklist.adapters.output.persistence.mapper.TaskPersistenceMapper;
 import br.com.jtech.tasklist.adapters.output.persistence.repositories.TaskRepository;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.TaskSummaryView;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.TaskTitleView;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.TaskTombstoneRepository;
+import br.com.jtech.tasklist.application.port.out.TaskChangeBusPort;
 import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import br.com.jtech.tasklist.config.infra.TaskListProperties;
+import br.com.jtech.tasklist.config.infra.datasource.PrimaryRouting;
+import br.com.jtech.tasklist.domain.event.TaskChangeNotice;
+import br.com.jtech.tasklist.domain.event.TaskChangeType;
+import br.com.jtech.tasklist.domain.exception.TaskChangeTokenExpiredException;
 import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskChangeSet;
+import br.com.jtech.tasklist.domain.model.TaskChangeToken;
+import br.com.jtech.tasklist.domain.model.TaskChanges;
+import br.com.jtech.tasklist.domain.model.TaskCursor;
+import br.com.jtech.tasklist.domain.model.TaskPage;
+import br.com.jtech.tasklist.domain.model.TaskSearchPage;
+import br.com.jtech.tasklist.domain.model.TaskState;
 import br.com.jtech.tasklist.domain.model.TaskStatus;
+import br.com.jtech.tasklist.domain.model.TaskStatusUpdate;
+import br.com.jtech.tasklist.domain.model.TaskSummary;
+import br.com.jtech.tasklist.domain.model.TaskSummaryPage;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
+@Timed("tasklist.repository")
 public class TaskPersistenceAdapter implements TaskRepositoryPort {
 
     private final TaskRepository jpaRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
     private final TaskPersistenceMapper mapper;
+    private final EntityManager entityManager;
+    private final TaskListProperties properties;
+    private final TaskChangeBusPort changeBus;
 
     @Override
-    public Task save(Task task) {
-        log.debug("Salvando tarefa no banco: {}", task);
+    @Transactional
+    public Task insert(Task task) {
+        log.debug("Inserindo tarefa no banco: {}", task);
         TaskEntity entity = mapper.toEntity(task);
+        entity.setNewEntity(true);
         TaskEntity savedEntity = jpaRepository.save(entity);
+        changeBus.publish(new TaskChangeNotice(TaskChangeType.CREATED, savedEntity.getId()));
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    @Transactional
+    public List<Task> insertAll(List<Task> tasks) {
+        log.debug("Inserindo {} tarefas em lote", tasks.size());
+        int chunkSize = properties.getBatch().getChunkSize();
+        List<Task> inserted = new ArrayList<>(tasks.size());
+        List<TaskEntity> chunk = new ArrayList<>(Math.min(chunkSize, tasks.size()));
+        for (Task task : tasks) {
+            TaskEntity entity = mapper.toEntity(task);
+            entityManager.persist(entity);
+            chunk.add(entity);
+            if (chunk.size() == chunkSize) {
+                flushChunk(chunk, inserted);
+            }
+        }
+        flushChunk(chunk, inserted);
+        changeBus.publish(new TaskChangeNotice(TaskChangeType.CREATED_BATCH, null));
+        return inserted;
+    }
+
+    private void flushChunk(List<TaskEntity> chunk, List<Task> inserted) {
+        entityManager.flush();
+        chunk.forEach(entity -> inserted.add(mapper.toDomain(entity)));
+        chunk.clear();
+        entityManager.clear();
+    }
+
+    @Override
+    @Transactional
+    public Optional<Task> updateUnlessCompleted(TaskChanges changes) {
+        log.debug("Atualizando tarefa no banco: {}", changes.id());
+        Optional<TaskEntity> updated = properties.getDb().getDialect() == TaskListProperties.Db.Dialect.H2
+                ? updateInFinalTable(changes)
+                : updateReturning(changes);
+
+        updated.ifPresent(entity -> changeBus.publish(new TaskChangeNotice(TaskChangeType.UPDATED, changes.id())));
+        return updated.map(mapper::toDomain);
+    }
+
+    private Optional<TaskEntity> updateReturning(TaskChanges changes) {
+        return changes.changesStatus()
+                ? jpaRepository.updateUnlessCompletedReturning(
+                        changes.id(),
+                        changes.title(),
+                        changes.description(),
+                        changes.status().name(),
+                        changes.updatedAt(),
+                        changes.expectedVersion())
+                : jpaRepository.updateDetailsReturning(
+                        changes.id(),
+                        changes.title(),
+                        changes.description(),
+                        changes.updatedAt(),
+                        changes.expectedVersion());
+    }
+
+    private Optional<TaskEntity> updateInFinalTable(TaskChanges changes) {
+        return changes.changesStatus()
+                ? jpaRepository.updateUnlessCompletedInFinalTable(
+                        changes.id(),
+                        changes.title(),
+                        changes.description(),
+                        changes.status().name(),
+                        changes.updatedAt(),
+                        changes.expectedVersion())
+                : jpaRepository.updateDetailsInFinalTable(
+                        changes.id(),
+                        changes.title(),
+                        changes.description(),
+                        changes.updatedAt(),
+                        changes.expectedVersion());
+    }
+
+    @Override
+    @Transactional
+    public TaskStatusUpdate updateStatusUnlessCompleted(List<UUID> ids, TaskStatus status, LocalDateTime updatedAt) {
+        log.debug("Alterando status de {} tarefas para {}", ids.size(), status);
+        int chunkSize = properties.getBatch().getChunkSize();
+        List<UUID> updated = new ArrayList<>();
+        List<UUID> alreadyCompleted = new ArrayList<>();
+        List<UUID> notFound = new ArrayList<>();
+
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            Map<UUID, TaskStatus> current = findStatusById(chunk);
+
+            List<UUID> updatable = new ArrayList<>();
+            for (UUID id : chunk) {
+                TaskStatus found = current.get(id);
+                if (found == null) {
+                    notFound.add(id);
+                } else if (found == TaskStatus.COMPLETED) {
+                    alreadyCompleted.add(id);
+                } else {
+                    updatable.add(id);
+                }
+            }
+            if (updatable.isEmpty()) {
+                continue;
+            }
+            int changed = jpaRepository.updateStatusUnlessCompleted(updatable, status, updatedAt);
+            if (changed == updatable.size()) {
+                updated.addAll(updatable);
+                continue;
+            }
+            // Alguma tarefa foi concluída ou excluída entre a leitura e o UPDATE
+            Map<UUID, TaskStatus> after = findStatusById(updatable);
+            for (UUID id : updatable) {
+                TaskStatus found = after.get(id);
+                if (found == null) {
+                    notFound.add(id);
+                } else if (found == TaskStatus.COMPLETED && status != TaskStatus.COMPLETED) {
+                    alreadyCompleted.add(id);
+                } else {
+                    updated.add(id);
+                }
+            }
+        }
+
+        if (!updated.isEmpty()) {
+            changeBus.publish(new TaskChangeNotice(TaskChangeType.UPDATED_BATCH, null));
+        }
+        return new TaskStatusUpdate(updated, alreadyCompleted, notFound);
+    }
+
     @Override
     public Optional<Task> findById(UUID id) {
         return jpaRepository.findById(id).map(mapper::toDomain);
     }
 
     @Override
-    public List<Task> findAll() {
-        return jpaRepository.findAll()
-                .stream()
+    public Optional<Task> findLatestById(UUID id) {
+        try (PrimaryRouting.Scope ignored = PrimaryRouting.force()) {
+            return jpaRepository.findById(id).map(mapper::toDomain);
+        }
+    }
+
+    @Override
+    public TaskPage findPage(TaskStatus status, TaskCursor after, int limit) {
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<TaskEntity> entities = status == null
+                ? fetchPage(after, fetchLimit)
+                : fetchPageByStatus(status, after, fetchLimit);
+
+        List<Task> items = entities.stream()
+                .limit(limit)
+                .map(mapper::toDomain)
+                .toList();
+        TaskCursor nextCursor = entities.size() > limit
+                ? TaskCursor.of(items.get(items.size() - 1))
+                : null;
+        return new TaskPage(items, nextCursor);
+    }
+
+    @Override
+    public TaskSummaryPage findSummaryPage(TaskStatus status, TaskCursor after, int limit) {
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<TaskSummaryView> views = status == null
+                ? fetchSummaryPage(after, fetchLimit)
+                : fetchSummaryPageByStatus(status, after, fetchLimit);
+
+        List<TaskSummary> items = views.stream()
+                .limit(limit)
+                .map(mapper::toSummary)
+                .toList();
+        TaskCursor nextCursor = views.size() > limit
+                ? TaskCursor.of(items.get(items.size() - 1))
+                : null;
+        return new TaskSummaryPage(items, nextCursor);
+    }
+
+    @Override
+    public TaskSearchPage search(String text, int page, int limit) {
+        TaskListProperties.Search search = properties.getSearch();
+        Pageable pageable = PageRequest.of(page, limit);
+        Slice<TaskEntity> slice = search.getMode() == TaskListProperties.Search.Mode.FULL_TEXT
+                ? jpaRepository.searchRanked(text, search.getMaxCandidates(), pageable)
+                : jpaRepository.searchByPattern(likePattern(text), pageable);
+        return new TaskSearchPage(slice.map(mapper::toDomain).getContent(), slice.hasNext());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskChangeSet findChangesSince(TaskChangeToken since, LocalDateTime asOf, int limit) {
+        LocalDateTime until = asOf.minus(properties.getChanges().getSettleWindow());
+        if (since == null) {
+            return new TaskChangeSet(List.of(), List.of(), TaskChangeToken.at(until), false);
+        }
+        // Exclusões mais antigas que a retenção já foram apagadas: o cliente precisa recarregar a lista.
+        LocalDateTime oldestTombstone = asOf.minus(properties.getChanges().getTombstoneRetention());
+        if (since.tombstones().at().isBefore(oldestTombstone)) {
+            throw new TaskChangeTokenExpiredException(oldestTombstone);
+        }
+
+        Limit fetchLimit = Limit.of(limit + 1);
+        TaskChangeToken.Position tasksFrom = since.tasks();
+        TaskChangeToken.Position tombstonesFrom = since.tombstones();
+        List<TaskEntity> changed = jpaRepository.findChangedAfter(tasksFrom.at(), tasksFrom.id(), until, fetchLimit);
+        List<TaskTombstoneEntity> deleted = tombstoneRepository.findDeletedAfter(
+                tombstonesFrom.at(), tombstonesFrom.id(), until, fetchLimit);
+
+        List<Task> updated = changed.stream()
+                .limit(limit)
                 .map(mapper::toDomain)
                 .toList();
+        List<TaskTombstoneEntity> tombstones = deleted.stream()
+                .limit(limit)
+                .toList();
+
+        TaskChangeToken.Position end = TaskChangeToken.Position.end(until);
+        TaskChangeToken.Position tasksTo = changed.size() > limit
+                ? new TaskChangeToken.Position(updated.getLast().getUpdatedAt(), updated.getLast().getId())
+                : tasksFrom.max(end);
+        TaskChangeToken.Position tombstonesTo = deleted.size() > limit
+                ? new TaskChangeToken.Position(tombstones.getLast().getDeletedAt(), tombstones.getLast().getId())
+                : tombstonesFrom.max(end);
+
+        return new TaskChangeSet(
+                updated,
+                tombstones.stream().map(TaskTombstoneEntity::getId).toList(),
+                new TaskChangeToken(tasksTo, tombstonesTo),
+                changed.size() > limit || deleted.size() > limit);
+    }
+
+    @Override
+    public Map<TaskStatus, Long> countByStatus() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        jpaRepository.countGroupedByStatus()
+                .forEach(count -> counts.put(count.getStatus(), count.getTotal()));
+        return counts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Task> consumer) {
+        try (Stream<TaskEntity> entities = jpaRepository.streamAll()) {
+            entities.forEach(entity -> {
+                consumer.accept(mapper.toDomain(entity));
+                entityManager.detach(entity);
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachId(Consumer<UUID> consumer) {
+        try (PrimaryRouting.Scope ignored = PrimaryRouting.force();
+             Stream<UUID> ids = jpaRepository.streamAllIds()) {
+            ids.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachTitle(BiConsumer<UUID, String> consumer) {
+        try (PrimaryRouting.Scope ignored = PrimaryRouting.force();
+             Stream<TaskTitleView> titles = jpaRepository.streamAllTitles()) {
+            titles.forEach(view -> consumer.accept(view.getId(), view.getTitle()));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachTitleUpdatedSince(LocalDateTime since, BiConsumer<UUID, String> consumer) {
+        try (PrimaryRouting.Scope ignored = PrimaryRouting.force();
+             Stream<TaskTitleView> titles = jpaRepository.streamTitlesUpdatedSince(since)) {
+            titles.forEach(view -> consumer.accept(view.getId(), view.getTitle()));
+        }
     }
 
     @Override
-    public boolean existsById(UUID id) {
-        return jpaRepository.existsById(id);
+    @Transactional(readOnly = true)
+    public void forEachIdDeletedSince(LocalDateTime since, Consumer<UUID> consumer) {
+        try (PrimaryRouting.Scope ignored = PrimaryRouting.force();
+             Stream<UUID> ids = tombstoneRepository.streamIdsDeletedSince(since)) {
+            ids.forEach(consumer);
+        }
     }
 
     @Override
-    public void deleteById(UUID id) {
-        jpaRepository.deleteById(id);
+    public int deleteTombstonesBefore(LocalDateTime before) {
+        return tombstoneRepository.deleteDeletedBefore(before);
+    }
+
+    @Override
+    public Optional<TaskState> findStateById(UUID id) {
+        return jpaRepository.findStateById(id)
+                .map(view -> new TaskState(view.getStatus(), view.getVersion()));
+    }
+
+    @Override
+    @Transactional
+    public int deleteById(UUID id, LocalDateTime deletedAt) {
+        int deleted = jpaRepository.deleteTaskById(id);
+        if (deleted > 0) {
+            entityManager.persist(new TaskTombstoneEntity(id, deletedAt));
+            changeBus.publish(new TaskChangeNotice(TaskChangeType.DELETED, id));
+        }
+        return deleted;
+    }
+
+    private static String likePattern(String text) {
+        String escaped = text.toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+    private List<TaskEntity> fetchPage(TaskCursor after, Limit limit) {
+        return after == null
+                ? jpaRepository.findFirstPage(limit)
+                : jpaRepository.findPageAfter(after.createdAt(), after.id(), limit);
+    }
+
+    private List<TaskEntity> fetchPageByStatus(TaskStatus status, TaskCursor after, Limit limit) {
+        return after == null
+                ? jpaRepository.findFirstPageByStatus(status, limit)
+                : jpaRepository.findPageAfterByStatus(status, after.createdAt(), after.id(), limit);
+    }
+
+    private List<TaskSummaryView> fetchSummaryPage(TaskCursor after, Limit limit) {
+        return after == null
+                ? jpaRepository.findFirstSummaryPage(limit)
+                : jpaRepository.findSummaryPageAfter(after.createdAt(), after.id(), limit);
+    }
+
+    private List<TaskSummaryView> fetchSummaryPageByStatus(TaskStatus status, TaskCursor after, Limit limit) {
+        return after == null
+                ? jpaRepository.findFirstSummaryPageByStatus(status, limit)
+                : jpaRepository.findSummaryPageAfterByStatus(status, after.createdAt(), after.id(), limit);
+    }
+
+    private Map<UUID, TaskStatus> findStatusById(List<UUID> ids) {
+        Map<UUID, TaskStatus> statuses = new HashMap<>();
+        jpaRepository.findStatusByIdIn(ids).forEach(view -> statuses.put(view.getId(), view.getStatus()));
+        return statuses;
     }
 }
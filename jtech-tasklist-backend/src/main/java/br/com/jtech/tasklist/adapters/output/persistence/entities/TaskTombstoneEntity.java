@@ -0,0 +1,25 @@
+package br.com.jtech.tasklist.adapters.output.persistence.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_tombstones")
+public class TaskTombstoneEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+}
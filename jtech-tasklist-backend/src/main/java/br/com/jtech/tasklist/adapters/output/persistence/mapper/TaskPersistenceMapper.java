@@ -1,8 +1,11 @@
 package br.com.jtech.tasklist.adapters.output.persistence.mapper;
 
 import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.TaskSummaryView;
 import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskSummary;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
@@ -10,5 +13,8 @@ public interface TaskPersistenceMapper {
 
     Task toDomain(TaskEntity entity);
 
+    TaskSummary toSummary(TaskSummaryView view);
+
+    @Mapping(target = "newEntity", ignore = true)
     TaskEntity toEntity(Task domain);
 }
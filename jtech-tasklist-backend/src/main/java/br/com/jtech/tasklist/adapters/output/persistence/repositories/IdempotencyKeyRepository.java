@@ -0,0 +1,67 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories;
+
+import br.com.jtech.tasklist.adapters.output.persistence.entities.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO idempotency_keys (idempotency_key, request_hash, created_at, lock_token, locked_until)
+            VALUES (:key, :requestHash, :createdAt, :token, :lockedUntil)
+            """, nativeQuery = true)
+    int insertPending(String key, String requestHash, LocalDateTime createdAt, UUID token, LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyKeyEntity k
+            SET k.requestHash = :requestHash,
+                k.createdAt = :now,
+                k.lockToken = :token,
+                k.lockedUntil = :lockedUntil
+            WHERE k.idempotencyKey = :key
+              AND k.responseStatus IS NULL
+              AND (k.lockedUntil IS NULL OR k.lockedUntil < :now)
+            """)
+    int takeOverExpired(String key, String requestHash, UUID token, LocalDateTime now, LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyKeyEntity k
+            SET k.responseStatus = :status,
+                k.responseBody = :body,
+                k.completedAt = :completedAt,
+                k.lockToken = NULL,
+                k.lockedUntil = NULL
+            WHERE k.idempotencyKey = :key
+              AND k.lockToken = :token
+              AND k.responseStatus IS NULL
+            """)
+    int complete(String key, UUID token, int status, String body, LocalDateTime completedAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            DELETE FROM IdempotencyKeyEntity k
+            WHERE k.idempotencyKey = :key
+              AND k.lockToken = :token
+              AND k.responseStatus IS NULL
+            """)
+    int deletePending(String key, UUID token);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.createdAt < :before")
+    int deleteCreatedBefore(LocalDateTime before);
+}
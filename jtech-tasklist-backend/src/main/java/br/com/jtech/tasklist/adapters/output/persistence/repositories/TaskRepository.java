@@ -1,14 +1,225 @@
 package br.com.jtech.tasklist.adapters.output.persistence.repositories;
 
 import br.com.jtech.tasklist.domain.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<TaskEntity, UUID> {
     List<TaskEntity> findByStatus(TaskStatus status);
-}
\ No newline at end of file
+
+    @Query("SELECT t FROM TaskEntity t ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskEntity> findFirstPage(Limit limit);
+
+    @Query("""
+            SELECT t FROM TaskEntity t
+            WHERE t.createdAt >= :createdAt
+              AND (t.createdAt > :createdAt OR t.id > :id)
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TaskEntity> findPageAfter(LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query("SELECT t FROM TaskEntity t WHERE t.status = :status ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskEntity> findFirstPageByStatus(TaskStatus status, Limit limit);
+
+    @Query("""
+            SELECT t FROM TaskEntity t
+            WHERE t.status = :status
+              AND t.createdAt >= :createdAt
+              AND (t.createdAt > :createdAt OR t.id > :id)
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TaskEntity> findPageAfterByStatus(TaskStatus status, LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query("""
+            SELECT t.id AS id, t.title AS title, t.status AS status, t.createdAt AS createdAt, t.updatedAt AS updatedAt
+            FROM TaskEntity t
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TaskSummaryView> findFirstSummaryPage(Limit limit);
+
+    @Query("""
+            SELECT t.id AS id, t.title AS title, t.status AS status, t.createdAt AS createdAt, t.updatedAt AS updatedAt
+            FROM TaskEntity t
+            WHERE t.createdAt >= :createdAt
+              AND (t.createdAt > :createdAt OR t.id > :id)
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TaskSummaryView> findSummaryPageAfter(LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query("""
+            SELECT t.id AS id, t.title AS title, t.status AS status, t.createdAt AS createdAt, t.updatedAt AS updatedAt
+            FROM TaskEntity t
+            WHERE t.status = :status
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TaskSummaryView> findFirstSummaryPageByStatus(TaskStatus status, Limit limit);
+
+    @Query("""
+            SELECT t.id AS id, t.title AS title, t.status AS status, t.createdAt AS createdAt, t.updatedAt AS updatedAt
+            FROM TaskEntity t
+            WHERE t.status = :status
+              AND t.createdAt >= :createdAt
+              AND (t.createdAt > :createdAt OR t.id > :id)
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TaskSummaryView> findSummaryPageAfterByStatus(TaskStatus status, LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query(value = """
+            SELECT c.id, c.title, c.description, c.status, c.created_at, c.updated_at, c.version
+            FROM (
+                SELECT t.*, query
+                FROM tasks t CROSS JOIN websearch_to_tsquery('portuguese', :text) AS query
+                WHERE t.search_vector @@ query
+                ORDER BY ts_filter(t.search_vector, '{a}') @@ query DESC, t.created_at DESC, t.id DESC
+                LIMIT :maxCandidates
+            ) c
+            ORDER BY ts_rank(c.search_vector, c.query) DESC, c.created_at DESC, c.id
+            """, nativeQuery = true)
+    Slice<TaskEntity> searchRanked(String text, int maxCandidates, Pageable pageable);
+
+    @Query("""
+            SELECT t FROM TaskEntity t
+            WHERE lower(t.title) LIKE :pattern ESCAPE '!'
+               OR lower(t.description) LIKE :pattern ESCAPE '!'
+            ORDER BY CASE WHEN lower(t.title) LIKE :pattern ESCAPE '!' THEN 0 ELSE 1 END,
+                     t.createdAt DESC, t.id ASC
+            """)
+    Slice<TaskEntity> searchByPattern(String pattern, Pageable pageable);
+
+    @Query("""
+            SELECT t FROM TaskEntity t
+            WHERE t.updatedAt >= :updatedAt
+              AND (t.updatedAt > :updatedAt OR t.id > :id)
+              AND t.updatedAt < :until
+            ORDER BY t.updatedAt ASC, t.id ASC
+            """)
+    List<TaskEntity> findChangedAfter(LocalDateTime updatedAt, UUID id, LocalDateTime until, Limit limit);
+
+    @Query("SELECT t.status AS status, COUNT(t) AS total FROM TaskEntity t GROUP BY t.status")
+    List<TaskStatusCount> countGroupedByStatus();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TaskEntity t ORDER BY t.createdAt ASC, t.id ASC")
+    Stream<TaskEntity> streamAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT t.id FROM TaskEntity t")
+    Stream<UUID> streamAllIds();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT t.id AS id, t.title AS title FROM TaskEntity t")
+    Stream<TaskTitleView> streamAllTitles();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT t.id AS id, t.title AS title FROM TaskEntity t WHERE t.updatedAt >= :since")
+    Stream<TaskTitleView> streamTitlesUpdatedSince(LocalDateTime since);
+
+    @Transactional
+    @Query(value = """
+            UPDATE tasks
+            SET title = :title,
+                description = :description,
+                updated_at = :updatedAt,
+                version = version + 1
+            WHERE id = :id
+              AND (CAST(:version AS BIGINT) IS NULL OR version = :version)
+            RETURNING id, title, description, status, created_at, updated_at, version
+            """, nativeQuery = true)
+    Optional<TaskEntity> updateDetailsReturning(UUID id, String title, String description, LocalDateTime updatedAt,
+                                                Long version);
+
+    @Transactional
+    @Query(value = """
+            UPDATE tasks
+            SET title = :title,
+                description = :description,
+                status = :status,
+                updated_at = :updatedAt,
+                version = version + 1
+            WHERE id = :id
+              AND status <> 'COMPLETED'
+              AND (CAST(:version AS BIGINT) IS NULL OR version = :version)
+            RETURNING id, title, description, status, created_at, updated_at, version
+            """, nativeQuery = true)
+    Optional<TaskEntity> updateUnlessCompletedReturning(UUID id, String title, String description, String status,
+                                                        LocalDateTime updatedAt, Long version);
+
+    // O H2 não tem RETURNING; a linha alterada sai da tabela delta FINAL TABLE.
+    @Transactional
+    @Query(value = """
+            SELECT id, title, description, status, created_at, updated_at, version
+            FROM FINAL TABLE (
+                UPDATE tasks
+                SET title = :title,
+                    description = :description,
+                    updated_at = :updatedAt,
+                    version = version + 1
+                WHERE id = :id
+                  AND (CAST(:version AS BIGINT) IS NULL OR version = :version)
+            )
+            """, nativeQuery = true)
+    Optional<TaskEntity> updateDetailsInFinalTable(UUID id, String title, String description, LocalDateTime updatedAt,
+                                                   Long version);
+
+    @Transactional
+    @Query(value = """
+            SELECT id, title, description, status, created_at, updated_at, version
+            FROM FINAL TABLE (
+                UPDATE tasks
+                SET title = :title,
+                    description = :description,
+                    status = :status,
+                    updated_at = :updatedAt,
+                    version = version + 1
+                WHERE id = :id
+                  AND status <> 'COMPLETED'
+                  AND (CAST(:version AS BIGINT) IS NULL OR version = :version)
+            )
+            """, nativeQuery = true)
+    Optional<TaskEntity> updateUnlessCompletedInFinalTable(UUID id, String title, String description, String status,
+                                                           LocalDateTime updatedAt, Long version);
+
+    @Query("SELECT t.status AS status, t.version AS version FROM TaskEntity t WHERE t.id = :id")
+    Optional<TaskStateView> findStateById(UUID id);
+
+    @Query("SELECT t.id AS id, t.status AS status FROM TaskEntity t WHERE t.id IN :ids")
+    List<TaskStatusView> findStatusByIdIn(Collection<UUID> ids);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE TaskEntity t
+            SET t.status = :status,
+                t.updatedAt = :updatedAt,
+                t.version = t.version + 1
+            WHERE t.id IN :ids
+              AND t.status <> br.com.jtech.tasklist.domain.model.TaskStatus.COMPLETED
+            """)
+    int updateStatusUnlessCompleted(Collection<UUID> ids, TaskStatus status, LocalDateTime updatedAt);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TaskEntity t WHERE t.id = :id")
+    int deleteTaskById(UUID id);
+}
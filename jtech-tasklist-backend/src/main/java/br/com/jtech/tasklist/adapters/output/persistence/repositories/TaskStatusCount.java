@@ -0,0 +1,8 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories;
+
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+
+public interface TaskStatusCount {
+    TaskStatus getStatus();
+    Long getTotal();
+}
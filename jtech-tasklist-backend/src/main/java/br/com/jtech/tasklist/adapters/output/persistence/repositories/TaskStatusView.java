@@ -0,0 +1,10 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories;
+
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+
+import java.util.UUID;
+
+public interface TaskStatusView {
+    UUID getId();
+    TaskStatus getStatus();
+}
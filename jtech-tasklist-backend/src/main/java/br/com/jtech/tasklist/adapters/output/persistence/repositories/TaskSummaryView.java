@@ -0,0 +1,14 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories;
+
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface TaskSummaryView {
+    UUID getId();
+    String getTitle();
+    TaskStatus getStatus();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
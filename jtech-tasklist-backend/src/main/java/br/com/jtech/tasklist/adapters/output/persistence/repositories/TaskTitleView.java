@@ -0,0 +1,8 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories;
+
+import java.util.UUID;
+
+public interface TaskTitleView {
+    UUID getId();
+    String getTitle();
+}
@@ -0,0 +1,35 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories;
+
+import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskTombstoneEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstoneEntity, UUID> {
+
+    @Query("""
+            SELECT t FROM TaskTombstoneEntity t
+            WHERE t.deletedAt >= :deletedAt
+              AND (t.deletedAt > :deletedAt OR t.id > :id)
+              AND t.deletedAt < :until
+            ORDER BY t.deletedAt ASC, t.id ASC
+            """)
+    List<TaskTombstoneEntity> findDeletedAfter(LocalDateTime deletedAt, UUID id, LocalDateTime until, Limit limit);
+
+    @Query("SELECT t.id FROM TaskTombstoneEntity t WHERE t.deletedAt >= :since")
+    Stream<UUID> streamIdsDeletedSince(LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TaskTombstoneEntity t WHERE t.deletedAt < :before")
+    int deleteDeletedBefore(LocalDateTime before);
+}
@@ -0,0 +1,10 @@
+package br.com.jtech.tasklist.application.port.in;
+
+import br.com.jtech.tasklist.application.port.in.command.CreateTaskBatchCommand;
+import br.com.jtech.tasklist.application.port.in.result.TaskBatchItemResult;
+
+import java.util.List;
+
+public interface CreateTaskBatchUseCase {
+    List<TaskBatchItemResult> createAll(CreateTaskBatchCommand command);
+}
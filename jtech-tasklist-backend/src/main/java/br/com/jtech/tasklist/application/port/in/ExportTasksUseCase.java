@@ -0,0 +1,9 @@
+package br.com.jtech.tasklist.application.port.in;
+
+import br.com.jtech.tasklist.domain.model.Task;
+
+import java.util.function.Consumer;
+
+public interface ExportTasksUseCase {
+    void exportAll(Consumer<Task> consumer);
+}
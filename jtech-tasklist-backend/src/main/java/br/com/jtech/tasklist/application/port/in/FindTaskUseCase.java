@@ -1,11 +1,27 @@
 package br.com.jtech.tasklist.application.port.in;
 
+import br.com.jtech.tasklist.application.port.in.query.FindTaskChangesQuery;
+import br.com.jtech.tasklist.application.port.in.query.FindTasksQuery;
+import br.com.jtech.tasklist.application.port.in.query.SearchTasksQuery;
+import br.com.jtech.tasklist.application.port.in.query.SuggestTasksQuery;
 import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskChangeSet;
+import br.com.jtech.tasklist.domain.model.TaskPage;
+import br.com.jtech.tasklist.domain.model.TaskSearchPage;
+import br.com.jtech.tasklist.domain.model.TaskStats;
+import br.com.jtech.tasklist.domain.model.TaskSuggestion;
+import br.com.jtech.tasklist.domain.model.TaskSummaryPage;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface FindTaskUseCase {
     Task findById(UUID id);
-    List<Task> findAll();
+    TaskPage findAll(FindTasksQuery query);
+    TaskSummaryPage findSummaries(FindTasksQuery query);
+    TaskSearchPage search(SearchTasksQuery query);
+    List<TaskSuggestion> suggest(SuggestTasksQuery query);
+    TaskChangeSet findChanges(FindTaskChangesQuery query);
+    TaskStats stats();
+    String revision();
 }
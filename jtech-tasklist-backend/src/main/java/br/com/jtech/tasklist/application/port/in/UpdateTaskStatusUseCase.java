@@ -0,0 +1,8 @@
+package br.com.jtech.tasklist.application.port.in;
+
+import br.com.jtech.tasklist.application.port.in.command.UpdateTaskStatusCommand;
+import br.com.jtech.tasklist.domain.model.TaskStatusUpdate;
+
+public interface UpdateTaskStatusUseCase {
+    TaskStatusUpdate updateStatus(UpdateTaskStatusCommand command);
+}
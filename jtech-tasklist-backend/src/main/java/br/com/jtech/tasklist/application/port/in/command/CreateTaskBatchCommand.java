@@ -0,0 +1,7 @@
+package br.com.jtech.tasklist.application.port.in.command;
+
+import java.util.List;
+
+public record CreateTaskBatchCommand(
+        List<CreateTaskCommand> tasks
+) {}
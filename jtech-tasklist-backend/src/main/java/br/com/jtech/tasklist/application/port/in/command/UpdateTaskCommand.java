@@ -8,5 +8,6 @@ public record UpdateTaskCommand(
         UUID id,
         String title,
         String description,
-        TaskStatus status
+        TaskStatus status,
+        Long expectedVersion
 ) {}
@@ -0,0 +1,11 @@
+package br.com.jtech.tasklist.application.port.in.command;
+
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+public record UpdateTaskStatusCommand(
+        List<UUID> ids,
+        TaskStatus status
+) {}
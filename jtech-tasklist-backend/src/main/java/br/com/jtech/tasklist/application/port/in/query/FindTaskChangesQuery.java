@@ -0,0 +1,15 @@
+package br.com.jtech.tasklist.application.port.in.query;
+
+import br.com.jtech.tasklist.domain.model.TaskChangeToken;
+
+public record FindTaskChangesQuery(
+        TaskChangeToken since,
+        int limit
+) {
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 1000;
+
+    public FindTaskChangesQuery {
+        limit = Math.clamp(limit, 1, MAX_LIMIT);
+    }
+}
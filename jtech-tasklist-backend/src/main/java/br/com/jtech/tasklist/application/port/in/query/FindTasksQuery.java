@@ -0,0 +1,21 @@
+package br.com.jtech.tasklist.application.port.in.query;
+
+import br.com.jtech.tasklist.domain.model.TaskCursor;
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+
+public record FindTasksQuery(
+        TaskStatus status,
+        TaskCursor after,
+        int limit
+) {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    public FindTasksQuery {
+        limit = Math.clamp(limit, 1, MAX_LIMIT);
+    }
+
+    public static FindTasksQuery firstPage() {
+        return new FindTasksQuery(null, null, DEFAULT_LIMIT);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.jtech.tasklist.application.port.in.query;
+
+import br.com.jtech.tasklist.domain.exception.InvalidTaskException;
+
+public record SearchTasksQuery(
+        String text,
+        int page,
+        int limit
+) {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 50;
+    public static final int MAX_TEXT_LENGTH = 200;
+
+    public SearchTasksQuery {
+        if (text == null || text.isBlank()) {
+            throw InvalidTaskException.searchTermRequired();
+        }
+        text = text.strip();
+        if (text.length() > MAX_TEXT_LENGTH) {
+            throw InvalidTaskException.searchTermTooLong(MAX_TEXT_LENGTH);
+        }
+        page = Math.max(page, 0);
+        limit = Math.clamp(limit, 1, MAX_LIMIT);
+    }
+}
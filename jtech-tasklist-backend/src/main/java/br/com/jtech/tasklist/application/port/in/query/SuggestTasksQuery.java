@@ -0,0 +1,13 @@
+package br.com.jtech.tasklist.application.port.in.query;
+
+public record SuggestTasksQuery(
+        String prefix,
+        int limit
+) {
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 20;
+
+    public SuggestTasksQuery {
+        limit = Math.clamp(limit, 1, MAX_LIMIT);
+    }
+}
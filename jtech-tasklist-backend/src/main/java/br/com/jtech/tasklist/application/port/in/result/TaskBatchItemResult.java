@@ -0,0 +1,21 @@
+package br.com.jtech.tasklist.application.port.in.result;
+
+import br.com.jtech.tasklist.domain.model.Task;
+
+public record TaskBatchItemResult(
+        int index,
+        Task task,
+        String error
+) {
+    public static TaskBatchItemResult created(int index, Task task) {
+        return new TaskBatchItemResult(index, task, null);
+    }
+
+    public static TaskBatchItemResult failed(int index, String error) {
+        return new TaskBatchItemResult(index, null, error);
+    }
+
+    public boolean created() {
+        return task != null;
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.jtech.tasklist.application.port.out;
+
+import br.com.jtech.tasklist.domain.model.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IdempotencyKeyRepositoryPort {
+
+    boolean claim(String key, String requestHash, UUID token, LocalDateTime now, LocalDateTime lockedUntil);
+
+    Optional<IdempotencyRecord> find(String key);
+
+    boolean complete(String key, UUID token, int status, String body, LocalDateTime now);
+
+    void release(String key, UUID token);
+
+    int deleteCreatedBefore(LocalDateTime before);
+}
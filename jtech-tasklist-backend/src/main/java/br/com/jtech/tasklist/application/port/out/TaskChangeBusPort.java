@@ -0,0 +1,15 @@
+package br.com.jtech.tasklist.application.port.out;
+
+import br.com.jtech.tasklist.domain.event.TaskChangeNotice;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+public interface TaskChangeBusPort {
+
+    void publish(TaskChangeNotice notice);
+
+    void subscribe(Consumer<TaskChangeNotice> listener, Runnable onResync);
+
+    boolean hasCaughtUpWith(Instant writtenAt);
+}
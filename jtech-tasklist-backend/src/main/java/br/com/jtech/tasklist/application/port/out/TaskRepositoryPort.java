@@ -2,21 +2,62 @@ package br.com.jtech.tasklist.application.port.out;
 
 
 import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskChangeSet;
+import br.com.jtech.tasklist.domain.model.TaskChangeToken;
+import br.com.jtech.tasklist.domain.model.TaskChanges;
+import br.com.jtech.tasklist.domain.model.TaskCursor;
+import br.com.jtech.tasklist.domain.model.TaskPage;
+import br.com.jtech.tasklist.domain.model.TaskSearchPage;
+import br.com.jtech.tasklist.domain.model.TaskState;
 import br.com.jtech.tasklist.domain.model.TaskStatus;
+import br.com.jtech.tasklist.domain.model.TaskStatusUpdate;
+import br.com.jtech.tasklist.domain.model.TaskSummaryPage;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 public interface TaskRepositoryPort {
 
-    Task save(Task task);
+    Task insert(Task task);
+
+    List<Task> insertAll(List<Task> tasks);
+
+    Optional<Task> updateUnlessCompleted(TaskChanges changes);
+
+    TaskStatusUpdate updateStatusUnlessCompleted(List<UUID> ids, TaskStatus status, LocalDateTime updatedAt);
 
     Optional<Task> findById(UUID id);
 
-    List<Task> findAll();
+    Optional<Task> findLatestById(UUID id);
+
+    TaskPage findPage(TaskStatus status, TaskCursor after, int limit);
+
+    TaskSummaryPage findSummaryPage(TaskStatus status, TaskCursor after, int limit);
+
+    TaskSearchPage search(String text, int page, int limit);
+
+    TaskChangeSet findChangesSince(TaskChangeToken since, LocalDateTime asOf, int limit);
+
+    Map<TaskStatus, Long> countByStatus();
+
+    void forEach(Consumer<Task> consumer);
+
+    void forEachId(Consumer<UUID> consumer);
+
+    void forEachTitle(BiConsumer<UUID, String> consumer);
+
+    void forEachTitleUpdatedSince(LocalDateTime since, BiConsumer<UUID, String> consumer);
+
+    void forEachIdDeletedSince(LocalDateTime since, Consumer<UUID> consumer);
+
+    Optional<TaskState> findStateById(UUID id);
 
-    boolean existsById(UUID id);
+    int deleteById(UUID id, LocalDateTime deletedAt);
 
-    void deleteById(UUID id);
+    int deleteTombstonesBefore(LocalDateTime before);
 }
@@ -0,0 +1,193 @@
+package br.com.jtech.tasklist.application.service;
+
+import br.com.jtech.tasklist.application.port.out.IdempotencyKeyRepositoryPort;
+import br.com.jtech.tasklist.domain.exception.IdempotencyKeyInUseException;
+import br.com.jtech.tasklist.domain.exception.IdempotencyKeyReusedException;
+import br.com.jtech.tasklist.domain.exception.InvalidTaskException;
+import br.com.jtech.tasklist.domain.model.IdempotencyRecord;
+import br.com.jtech.tasklist.domain.model.IdempotentResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Slf4j
+public class IdempotencyGuard {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepositoryPort repository;
+    private final TransactionOperations transactions;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+    private final Duration cleanupInterval;
+    private final Cache<String, CompletableFuture<IdempotencyRecord>> responses;
+    private final AtomicLong nextCleanup = new AtomicLong();
+    private final LongAdder replays = new LongAdder();
+
+    public IdempotencyGuard(IdempotencyKeyRepositoryPort repository, TransactionOperations transactions, Clock clock,
+                            long localMaxSize, Duration ttl, Duration lease, Duration waitTimeout,
+                            Duration pollInterval, Duration cleanupInterval) {
+        this.repository = repository;
+        this.transactions = transactions;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+        this.cleanupInterval = cleanupInterval;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public static String fingerprint(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public IdempotentResponse execute(String key, String requestHash, Supplier<IdempotentResponse> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw InvalidTaskException.idempotencyKeyInvalid(MAX_KEY_LENGTH);
+        }
+        CompletableFuture<IdempotencyRecord> pending = new CompletableFuture<>();
+        CompletableFuture<IdempotencyRecord> existing = responses.asMap().putIfAbsent(key, pending);
+        if (existing != null) {
+            return replay(key, requestHash, await(key, existing));
+        }
+        try {
+            IdempotentResponse response = claimAndRun(key, requestHash, action);
+            pending.complete(new IdempotencyRecord(requestHash, response.status(), response.body()));
+            return response;
+        } catch (RuntimeException ex) {
+            responses.asMap().remove(key, pending);
+            pending.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    public long localEntries() {
+        return responses.estimatedSize();
+    }
+
+    public long replays() {
+        return replays.sum();
+    }
+
+    private IdempotentResponse claimAndRun(String key, String requestHash, Supplier<IdempotentResponse> action) {
+        cleanUpIfDue();
+        long deadline = clock.millis() + waitTimeout.toMillis();
+        while (true) {
+            UUID token = UUID.randomUUID();
+            LocalDateTime now = LocalDateTime.now(clock);
+            if (repository.claim(key, requestHash, token, now, now.plus(lease))) {
+                return run(key, token, action);
+            }
+            Optional<IdempotencyRecord> stored = repository.find(key);
+            if (stored.isPresent() && stored.get().completed()) {
+                return replay(key, requestHash, stored.get());
+            }
+            if (stored.isPresent() && !stored.get().matches(requestHash)) {
+                throw new IdempotencyKeyReusedException(key);
+            }
+            if (clock.millis() >= deadline) {
+                throw new IdempotencyKeyInUseException(key);
+            }
+            sleep(key);
+        }
+    }
+
+    private IdempotentResponse run(String key, UUID token, Supplier<IdempotentResponse> action) {
+        try {
+            return transactions.execute(status -> {
+                IdempotentResponse response = action.get();
+                if (!repository.complete(key, token, response.status(), response.body(), LocalDateTime.now(clock))) {
+                    throw new IdempotencyKeyInUseException(key);
+                }
+                return response;
+            });
+        } catch (RuntimeException ex) {
+            repository.release(key, token);
+            throw ex;
+        }
+    }
+
+    private IdempotencyRecord await(String key, CompletableFuture<IdempotencyRecord> future) {
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new IdempotencyKeyInUseException(key);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInUseException(key);
+        }
+    }
+
+    private IdempotentResponse replay(String key, String requestHash, IdempotencyRecord stored) {
+        if (!stored.matches(requestHash)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+        replays.increment();
+        log.info("Repetindo resposta armazenada para a chave de idempotência {}", key);
+        return new IdempotentResponse(stored.responseStatus(), stored.responseBody(), true);
+    }
+
+    private void sleep(String key) {
+        try {
+            Thread.sleep(pollInterval);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInUseException(key);
+        }
+    }
+
+    private void cleanUpIfDue() {
+        long now = clock.millis();
+        long due = nextCleanup.get();
+        if (now < due || !nextCleanup.compareAndSet(due, now + cleanupInterval.toMillis())) {
+            return;
+        }
+        try {
+            int removed = repository.deleteCreatedBefore(LocalDateTime.now(clock).minus(ttl));
+            if (removed > 0) {
+                log.info("Removidas {} chaves de idempotência expiradas", removed);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao remover chaves de idempotência expiradas", ex);
+        }
+    }
+}
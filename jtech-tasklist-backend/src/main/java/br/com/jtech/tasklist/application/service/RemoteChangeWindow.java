@@ -0,0 +1,42 @@
+package br.com.jtech.tasklist.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.UUID;
+
+public class RemoteChangeWindow {
+
+    private final Duration window;
+    private final Ticker ticker;
+    private final Cache<UUID, Boolean> changed;
+    private volatile long allChangedUntil;
+
+    public RemoteChangeWindow(Duration window) {
+        this(window, Ticker.systemTicker());
+    }
+
+    RemoteChangeWindow(Duration window, Ticker ticker) {
+        this.window = window;
+        this.ticker = ticker;
+        this.changed = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .ticker(ticker)
+                .build();
+        this.allChangedUntil = ticker.read();
+    }
+
+    public void record(UUID id) {
+        changed.put(id, Boolean.TRUE);
+    }
+
+    public void recordAll() {
+        allChangedUntil = ticker.read() + window.toNanos();
+    }
+
+    public boolean isRecent(UUID id) {
+        return ticker.read() - allChangedUntil < 0 || changed.getIfPresent(id) != null;
+    }
+}
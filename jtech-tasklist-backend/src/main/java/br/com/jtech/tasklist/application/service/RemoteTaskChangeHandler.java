@@ -0,0 +1,110 @@
+package br.com.jtech.tasklist.application.service;
+
+import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import br.com.jtech.tasklist.domain.event.TaskChangeNotice;
+import br.com.jtech.tasklist.domain.event.TaskChangeType;
+import br.com.jtech.tasklist.domain.event.TaskChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class RemoteTaskChangeHandler {
+
+    private final TaskRepositoryPort repository;
+    private final TaskIdFilter idFilter;
+    private final TaskTitleIndex titleIndex;
+    private final TaskRevision revision;
+    private final Cache cache;
+    private final RemoteChangeWindow recentChanges;
+    private final ApplicationEventPublisher events;
+    private final Clock clock;
+    private final Duration resyncOverlap;
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong resyncs = new AtomicLong();
+    private volatile LocalDateTime syncedAt;
+
+    public RemoteTaskChangeHandler(TaskRepositoryPort repository, TaskIdFilter idFilter, TaskTitleIndex titleIndex,
+                                   TaskRevision revision, Cache cache, RemoteChangeWindow recentChanges,
+                                   ApplicationEventPublisher events, Clock clock, Duration resyncOverlap) {
+        this.repository = repository;
+        this.idFilter = idFilter;
+        this.titleIndex = titleIndex;
+        this.revision = revision;
+        this.cache = cache;
+        this.recentChanges = recentChanges;
+        this.events = events;
+        this.clock = clock;
+        this.resyncOverlap = resyncOverlap;
+        this.syncedAt = LocalDateTime.now(clock);
+    }
+
+    public void onChange(TaskChangeNotice notice) {
+        received.incrementAndGet();
+        switch (notice.type()) {
+            case CREATED, UPDATED -> {
+                syncedAt = LocalDateTime.now(clock);
+                idFilter.put(notice.id());
+                recentChanges.record(notice.id());
+                cache.evict(notice.id());
+                revision.increment();
+                repository.findLatestById(notice.id()).ifPresent(task -> {
+                    titleIndex.put(task.getId(), task.getTitle());
+                    events.publishEvent(notice.type() == TaskChangeType.CREATED
+                            ? TaskChangedEvent.created(task, revision.current())
+                            : TaskChangedEvent.updated(task, revision.current()));
+                });
+            }
+            case DELETED -> {
+                syncedAt = LocalDateTime.now(clock);
+                recentChanges.record(notice.id());
+                cache.evict(notice.id());
+                titleIndex.remove(notice.id());
+                revision.increment();
+                events.publishEvent(TaskChangedEvent.deleted(notice.id(), revision.current()));
+            }
+            case CREATED_BATCH, UPDATED_BATCH -> resync();
+            case RESYNC -> {
+                log.info("Ressincronização pedida por outra instância");
+                resync();
+            }
+        }
+    }
+
+    public void resync() {
+        LocalDateTime since = syncedAt.minus(resyncOverlap);
+        syncedAt = LocalDateTime.now(clock);
+        log.info("Ressincronizando tarefas alteradas desde {}", since);
+
+        AtomicInteger changed = new AtomicInteger();
+        repository.forEachTitleUpdatedSince(since, (id, title) -> {
+            idFilter.put(id);
+            titleIndex.put(id, title);
+            changed.incrementAndGet();
+        });
+        // Exclusões perdidas com a escuta desconectada; o filtro de IDs não remove, só gera uma consulta a mais.
+        repository.forEachIdDeletedSince(since, id -> {
+            titleIndex.remove(id);
+            changed.incrementAndGet();
+        });
+        recentChanges.recordAll();
+        cache.clear();
+        revision.increment();
+        resyncs.incrementAndGet();
+        events.publishEvent(TaskChangedEvent.resync(changed.get(), revision.current()));
+    }
+
+    public long received() {
+        return received.get();
+    }
+
+    public long resyncs() {
+        return resyncs.get();
+    }
+}
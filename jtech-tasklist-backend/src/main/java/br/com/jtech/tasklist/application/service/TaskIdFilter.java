@@ -0,0 +1,130 @@
+package br.com.jtech.tasklist.application.service;
+
+import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class TaskIdFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final boolean enabled;
+    private final LongAdder insertions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private volatile boolean ready;
+
+    public TaskIdFilter(long expectedInsertions, double falsePositiveRate) {
+        this(expectedInsertions, falsePositiveRate, true);
+    }
+
+    private TaskIdFilter(long expectedInsertions, double falsePositiveRate, boolean enabled) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.clamp(falsePositiveRate, Double.MIN_NORMAL, 0.5);
+        long words = Math.max(1, (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)) / Long.SIZE));
+        this.bits = new AtomicLongArray(Math.toIntExact(words));
+        this.bitSize = words * Long.SIZE;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        this.enabled = enabled;
+    }
+
+    public static TaskIdFilter disabled() {
+        return new TaskIdFilter(1, 0.5, false);
+    }
+
+    public void load(TaskRepositoryPort repository) {
+        if (!enabled) {
+            return;
+        }
+        log.info("Carregando filtro de IDs de tarefas");
+        try {
+            repository.forEachId(this::put);
+            ready = true;
+            log.info("Filtro de IDs carregado com {} tarefas ({} bytes)", insertions.sum(), memoryBytes());
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao carregar filtro de IDs; consultas seguirão para o banco", ex);
+        }
+    }
+
+    public void put(UUID id) {
+        if (!enabled) {
+            return;
+        }
+        long h1 = mix(id.getMostSignificantBits() ^ Long.rotateLeft(id.getLeastSignificantBits(), 32));
+        long h2 = mix(id.getLeastSignificantBits()) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            changed |= setBit(index);
+        }
+        // Reinserções (alterações, recarga, avisos remotos) não mudam a taxa de falsos positivos.
+        if (changed) {
+            insertions.increment();
+        }
+    }
+
+    public boolean mightContain(UUID id) {
+        if (!enabled || !ready) {
+            return true;
+        }
+        long h1 = mix(id.getMostSignificantBits() ^ Long.rotateLeft(id.getLeastSignificantBits(), 32));
+        long h2 = mix(id.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                rejections.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public double expectedFalsePositiveRate() {
+        if (!enabled) {
+            return 1.0;
+        }
+        return Math.pow(1 - Math.exp(-(double) hashFunctions * insertions.sum() / bitSize), hashFunctions);
+    }
+
+    public long memoryBytes() {
+        return bits.length() * (long) Long.BYTES;
+    }
+
+    public long insertions() {
+        return insertions.sum();
+    }
+
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    private boolean setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
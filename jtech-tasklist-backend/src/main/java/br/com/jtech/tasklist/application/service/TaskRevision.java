@@ -0,0 +1,21 @@
+package br.com.jtech.tasklist.application.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class TaskRevision {
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE);
+    private final AtomicLong counter = new AtomicLong();
+
+    public String current() {
+        return epoch + "." + Long.toHexString(counter.get());
+    }
+
+    public void increment() {
+        counter.incrementAndGet();
+    }
+}
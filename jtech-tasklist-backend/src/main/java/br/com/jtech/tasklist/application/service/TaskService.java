@@ -1,89 +1,314 @@
 package br.com.jtech.tasklist.application.service;
 
+import br.com.jtech.tasklist.application.port.in.CreateTaskBatchUseCase;
 import br.com.jtech.tasklist.application.port.in.CreateTaskUseCase;
 import br.com.jtech.tasklist.application.port.in.DeleteTaskUseCase;
+import br.com.jtech.tasklist.application.port.in.ExportTasksUseCase;
 import br.com.jtech.tasklist.application.port.in.FindTaskUseCase;
+import br.com.jtech.tasklist.application.port.in.UpdateTaskStatusUseCase;
 import br.com.jtech.tasklist.application.port.in.UpdateTaskUseCase;
+import br.com.jtech.tasklist.application.port.in.command.CreateTaskBatchCommand;
 import br.com.jtech.tasklist.application.port.in.command.CreateTaskCommand;
 import br.com.jtech.tasklist.application.port.in.command.DeleteTaskCommand;
 import br.com.jtech.tasklist.application.port.in.command.UpdateTaskCommand;
+import br.com.jtech.tasklist.application.port.in.command.UpdateTaskStatusCommand;
+import br.com.jtech.tasklist.application.port.in.query.FindTaskChangesQuery;
+import br.com.jtech.tasklist.application.port.in.query.FindTasksQuery;
+import br.com.jtech.tasklist.application.port.in.query.SearchTasksQuery;
+import br.com.jtech.tasklist.application.port.in.query.SuggestTasksQuery;
+import br.com.jtech.tasklist.application.port.in.result.TaskBatchItemResult;
+import br.com.jtech.tasklist.application.port.out.TaskChangeBusPort;
 import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import br.com.jtech.tasklist.domain.event.TaskChangedEvent;
+import br.com.jtech.tasklist.domain.exception.InvalidTaskException;
 import br.com.jtech.tasklist.domain.exception.TaskNotFoundException;
+import br.com.jtech.tasklist.domain.exception.TaskVersionConflictException;
 import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskChangeSet;
+import br.com.jtech.tasklist.domain.model.TaskChanges;
+import br.com.jtech.tasklist.domain.model.TaskIdGenerator;
+import br.com.jtech.tasklist.domain.model.TaskPage;
+import br.com.jtech.tasklist.domain.model.TaskSearchPage;
+import br.com.jtech.tasklist.domain.model.TaskStats;
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+import br.com.jtech.tasklist.domain.model.TaskStatusUpdate;
+import br.com.jtech.tasklist.domain.model.TaskSuggestion;
+import br.com.jtech.tasklist.domain.model.TaskSummaryPage;
+import br.com.jtech.tasklist.domain.model.TimeOrderedTaskIdGenerator;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Timed("tasklist.usecase")
+@CacheConfig(cacheNames = "tasks")
 public class TaskService implements
         CreateTaskUseCase,
+        CreateTaskBatchUseCase,
         UpdateTaskUseCase,
+        UpdateTaskStatusUseCase,
         DeleteTaskUseCase,
-        FindTaskUseCase {
+        FindTaskUseCase,
+        ExportTasksUseCase {
 
     private final TaskRepositoryPort repository;
     private final Clock clock;
+    private final TaskIdGenerator idGenerator;
+    private final TaskIdFilter idFilter;
+    private final TaskTitleIndex titleIndex;
+    private final TaskRevision revision;
+    private final ApplicationEventPublisher events;
+    private final CacheManager cacheManager;
+    private final RemoteChangeWindow recentChanges;
+    private final TaskChangeBusPort changeBus;
 
     @Override
+    @CachePut(key = "#result.id")
     public Task create(CreateTaskCommand command) {
         log.info("Criando tarefa");
         var now = LocalDateTime.now(clock);
         Task task = new Task(
+                idGenerator.nextId(),
                 command.title(),
                 command.description(),
                 now
         );
 
-        return repository.save(task);
+        Task created = repository.insert(task);
+        undoOnRollback(created.getId());
+        idFilter.put(created.getId());
+        titleIndex.put(created.getId(), created.getTitle());
+        revision.increment();
+        events.publishEvent(TaskChangedEvent.created(created, revision.current()));
+        return created;
     }
 
     @Override
+    public List<TaskBatchItemResult> createAll(CreateTaskBatchCommand command) {
+        log.info("Criando {} tarefas em lote", command.tasks().size());
+        var now = LocalDateTime.now(clock);
+        TaskBatchItemResult[] results = new TaskBatchItemResult[command.tasks().size()];
+        List<Task> tasks = new ArrayList<>(command.tasks().size());
+        List<Integer> positions = new ArrayList<>(command.tasks().size());
+
+        for (int i = 0; i < command.tasks().size(); i++) {
+            CreateTaskCommand item = command.tasks().get(i);
+            try {
+                tasks.add(new Task(idGenerator.nextId(), item.title(), item.description(), now));
+                positions.add(i);
+            } catch (InvalidTaskException ex) {
+                results[i] = TaskBatchItemResult.failed(i, ex.getMessage());
+            }
+        }
+
+        if (!tasks.isEmpty()) {
+            List<Task> inserted = repository.insertAll(tasks);
+            for (int i = 0; i < inserted.size(); i++) {
+                Task task = inserted.get(i);
+                int position = positions.get(i);
+                results[position] = TaskBatchItemResult.created(position, task);
+                idFilter.put(task.getId());
+                titleIndex.put(task.getId(), task.getTitle());
+            }
+            revision.increment();
+            events.publishEvent(TaskChangedEvent.createdBatch(tasks.size(), revision.current()));
+        }
+        return List.of(results);
+    }
+
+    @Override
+    @Cacheable(key = "#id")
+    @Transactional(readOnly = true)
     public Task findById(UUID id) {
-        return repository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException(id));
+        boolean known = idFilter.mightContain(id);
+        if (!known && !isUnannounced(id)) {
+            throw new TaskNotFoundException(id);
+        }
+        // Alterada há pouco em outra instância, ou ainda não avisada: a réplica pode não ter a versão atual.
+        Optional<Task> task = known && !recentChanges.isRecent(id)
+                ? repository.findById(id)
+                : repository.findLatestById(id);
+        return task.orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPage findAll(FindTasksQuery query) {
+        return repository.findPage(query.status(), query.after(), query.limit());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskSummaryPage findSummaries(FindTasksQuery query) {
+        return repository.findSummaryPage(query.status(), query.after(), query.limit());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskSearchPage search(SearchTasksQuery query) {
+        return repository.search(query.text(), query.page(), query.limit());
+    }
+
+    @Override
+    public List<TaskSuggestion> suggest(SuggestTasksQuery query) {
+        return titleIndex.suggest(query.prefix(), query.limit());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskChangeSet findChanges(FindTaskChangesQuery query) {
+        return repository.findChangesSince(query.since(), LocalDateTime.now(clock), query.limit());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskStats stats() {
+        return new TaskStats(repository.countByStatus());
     }
 
     @Override
-    public List<Task> findAll() {
-        return repository.findAll();
+    public String revision() {
+        return revision.current();
     }
 
     @Override
+    public void exportAll(Consumer<Task> consumer) {
+        log.info("Exportando todas as tarefas");
+        repository.forEach(consumer);
+    }
+
+    @Override
+    @CachePut(key = "#command.id()")
+    @Transactional
     public Task update(UpdateTaskCommand command) {
         log.info("Atualizando tarefa: {}", command.id());
 
-        Task task = repository.findById(command.id())
-                .orElseThrow(() -> new TaskNotFoundException(command.id()));
-
-        task.updateDetails(
+        TaskChanges changes = new TaskChanges(
+                command.id(),
                 command.title(),
                 command.description(),
+                command.status(),
+                command.expectedVersion(),
                 LocalDateTime.now(clock)
         );
+        requireKnownId(changes.id());
 
-        if (command.status() != null) {
-            task.changeStatus(command.status(), LocalDateTime.now(clock));
+        Task updated = repository.updateUnlessCompleted(changes)
+                .orElseThrow(() -> updateRejection(changes));
+        titleIndex.put(updated.getId(), updated.getTitle());
+        revision.increment();
+        events.publishEvent(TaskChangedEvent.updated(updated, revision.current()));
+        return updated;
+    }
+
+    @Override
+    public TaskStatusUpdate updateStatus(UpdateTaskStatusCommand command) {
+        log.info("Alterando status de {} tarefas para {}", command.ids().size(), command.status());
+        var now = LocalDateTime.now(clock);
+        List<UUID> known = new ArrayList<>();
+        List<UUID> unknown = new ArrayList<>();
+        for (UUID id : new LinkedHashSet<>(command.ids())) {
+            (mightExist(id) ? known : unknown).add(id);
         }
 
-        return repository.save(task);
+        TaskStatusUpdate result = known.isEmpty()
+                ? new TaskStatusUpdate(List.of(), List.of(), List.of())
+                : repository.updateStatusUnlessCompleted(known, command.status(), now);
+        if (!result.updated().isEmpty()) {
+            evictCached(result.updated());
+            revision.increment();
+            events.publishEvent(TaskChangedEvent.updatedBatch(result.updated().size(), revision.current()));
+        }
+        return result.withNotFound(unknown);
     }
 
     @Override
+    @CacheEvict(key = "#command.id()")
     public void delete(DeleteTaskCommand command) {
         log.info("Deletando tarefa: {}", command.id());
+        requireKnownId(command.id());
 
-        if (!repository.existsById(command.id())) {
+        if (repository.deleteById(command.id(), LocalDateTime.now(clock)) == 0) {
             throw new TaskNotFoundException(command.id());
         }
+        titleIndex.remove(command.id());
+        revision.increment();
+        events.publishEvent(TaskChangedEvent.deleted(command.id(), revision.current()));
+    }
+
+    private void evictCached(List<UUID> ids) {
+        Cache cache = cacheManager.getCache("tasks");
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+    }
+
+    // Com Idempotency-Key a criação roda na transação da chave, que ainda pode ser desfeita depois daqui.
+    // O filtro de IDs fica como está: um falso positivo só custa uma consulta.
+    private void undoOnRollback(UUID id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    evictCached(List.of(id));
+                    titleIndex.remove(id);
+                    revision.increment();
+                }
+            }
+        });
+    }
+
+    private void requireKnownId(UUID id) {
+        if (!mightExist(id)) {
+            throw new TaskNotFoundException(id);
+        }
+    }
+
+    // O filtro só conhece IDs gravados aqui ou já avisados pelo barramento; tarefa mais nova que a última
+    // entrega do barramento pode ter sido criada em outra instância.
+    private boolean mightExist(UUID id) {
+        return idFilter.mightContain(id) || isUnannounced(id);
+    }
+
+    private boolean isUnannounced(UUID id) {
+        Instant createdAt = TimeOrderedTaskIdGenerator.timestampOf(id).orElse(Instant.EPOCH);
+        return !changeBus.hasCaughtUpWith(createdAt);
+    }
 
-        repository.deleteById(command.id());
+    private RuntimeException updateRejection(TaskChanges changes) {
+        Long expected = changes.expectedVersion();
+        return repository.findStateById(changes.id())
+                .<RuntimeException>map(current -> current.status() == TaskStatus.COMPLETED
+                        && (expected == null || expected.equals(current.version()))
+                        ? InvalidTaskException.taskAlreadyCompleted()
+                        : new TaskVersionConflictException(changes.id(), expected, current.version()))
+                .orElseGet(() -> new TaskNotFoundException(changes.id()));
     }
 }
@@ -0,0 +1,167 @@
+package br.com.jtech.tasklist.application.service;
+
+import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import br.com.jtech.tasklist.domain.model.TaskSuggestion;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+@Slf4j
+public class TaskTitleIndex {
+
+    // Estimativa com compressed oops: chave, UUID, nó e índice da skip list, nó do mapa reverso.
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+    private static final long STRING_OVERHEAD_BYTES = 40;
+    private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private final ConcurrentNavigableMap<Key, String> titles = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Key> keys = new ConcurrentHashMap<>();
+    private final Set<UUID> removedWhileLoading = ConcurrentHashMap.newKeySet();
+    private final AtomicLong memoryBytes = new AtomicLong();
+    private final boolean enabled;
+    private volatile boolean loading;
+    private volatile boolean ready;
+
+    public TaskTitleIndex() {
+        this(true);
+    }
+
+    private TaskTitleIndex(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static TaskTitleIndex disabled() {
+        return new TaskTitleIndex(false);
+    }
+
+    public void load(TaskRepositoryPort repository) {
+        if (!enabled) {
+            return;
+        }
+        log.info("Carregando índice de títulos de tarefas");
+        loading = true;
+        try {
+            repository.forEachTitle(this::putLoaded);
+            ready = true;
+            log.info("Índice de títulos carregado com {} tarefas ({} bytes)", size(), memoryBytes());
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao carregar índice de títulos; sugestões ficarão vazias", ex);
+        } finally {
+            loading = false;
+            removedWhileLoading.clear();
+        }
+    }
+
+    public void put(UUID id, String title) {
+        if (enabled) {
+            store(id, title, true);
+        }
+    }
+
+    public void remove(UUID id) {
+        if (!enabled) {
+            return;
+        }
+        if (loading) {
+            removedWhileLoading.add(id);
+        }
+        keys.computeIfPresent(id, (ignored, previous) -> {
+            drop(previous);
+            return null;
+        });
+    }
+
+    public List<TaskSuggestion> suggest(String prefix, int limit) {
+        if (!ready || prefix == null) {
+            return List.of();
+        }
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        List<TaskSuggestion> suggestions = new ArrayList<>(limit);
+        for (Map.Entry<Key, String> entry : titles.tailMap(new Key(normalized, MIN_ID)).entrySet()) {
+            if (suggestions.size() == limit || !entry.getKey().normalized().startsWith(normalized)) {
+                break;
+            }
+            suggestions.add(new TaskSuggestion(entry.getKey().id(), entry.getValue()));
+        }
+        return suggestions;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long size() {
+        return keys.size();
+    }
+
+    public long memoryBytes() {
+        return memoryBytes.get();
+    }
+
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        String plain = MARKS.matcher(decomposed).replaceAll("");
+        return SPACES.matcher(plain.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    private void putLoaded(UUID id, String title) {
+        if (!removedWhileLoading.contains(id)) {
+            store(id, title, false);
+        }
+    }
+
+    private void store(UUID id, String title, boolean replace) {
+        Key key = new Key(normalize(title), id);
+        keys.compute(id, (ignored, previous) -> {
+            if (previous != null) {
+                if (!replace) {
+                    return previous;
+                }
+                drop(previous);
+            }
+            titles.put(key, title);
+            memoryBytes.addAndGet(entryBytes(key.normalized(), title));
+            return key;
+        });
+    }
+
+    private void drop(Key key) {
+        String title = titles.remove(key);
+        if (title != null) {
+            memoryBytes.addAndGet(-entryBytes(key.normalized(), title));
+        }
+    }
+
+    private static long entryBytes(String normalized, String title) {
+        return ENTRY_OVERHEAD_BYTES + stringBytes(normalized) + stringBytes(title);
+    }
+
+    private static long stringBytes(String value) {
+        return STRING_OVERHEAD_BYTES + ((value.length() + 7L) & ~7L);
+    }
+
+    private record Key(String normalized, UUID id) implements Comparable<Key> {
+
+        @Override
+        public int compareTo(Key other) {
+            int byTitle = normalized.compareTo(other.normalized);
+            return byTitle != 0 ? byTitle : id.compareTo(other.id);
+        }
+    }
+}
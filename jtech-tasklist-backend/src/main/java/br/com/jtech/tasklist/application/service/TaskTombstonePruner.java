@@ -0,0 +1,36 @@
+package br.com.jtech.tasklist.application.service;
+
+import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Slf4j
+public class TaskTombstonePruner {
+
+    private final TaskRepositoryPort repository;
+    private final Clock clock;
+    private final Duration retention;
+
+    public TaskTombstonePruner(TaskRepositoryPort repository, Clock clock, Duration retention) {
+        this.repository = repository;
+        this.clock = clock;
+        this.retention = retention;
+    }
+
+    @Scheduled(initialDelayString = "${tasklist.changes.tombstone-cleanup-interval:1h}",
+            fixedDelayString = "${tasklist.changes.tombstone-cleanup-interval:1h}")
+    public void prune() {
+        try {
+            int removed = repository.deleteTombstonesBefore(LocalDateTime.now(clock).minus(retention));
+            if (removed > 0) {
+                log.info("Removidas {} marcas de exclusão anteriores à retenção de {}", removed, retention);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao remover marcas de exclusão expiradas", ex);
+        }
+    }
+}
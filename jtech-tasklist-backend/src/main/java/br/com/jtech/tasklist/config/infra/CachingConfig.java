@@ -0,0 +1,9 @@
+package br.com.jtech.tasklist.config.infra;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CachingConfig {
+}
@@ -0,0 +1,36 @@
+package br.com.jtech.tasklist.config.infra;
+
+import br.com.jtech.tasklist.application.port.out.IdempotencyKeyRepositoryPort;
+import br.com.jtech.tasklist.application.service.IdempotencyGuard;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyGuard idempotencyGuard(IdempotencyKeyRepositoryPort repository, TransactionOperations transactions,
+                                             Clock clock, TaskListProperties properties) {
+        TaskListProperties.Idempotency config = properties.getIdempotency();
+        return new IdempotencyGuard(repository, transactions, clock, config.getLocalMaxSize(), config.getTtl(),
+                config.getLease(), config.getWaitTimeout(), config.getPollInterval(), config.getCleanupInterval());
+    }
+
+    @Bean
+    public MeterBinder idempotencyMetrics(IdempotencyGuard guard) {
+        return registry -> {
+            Gauge.builder("tasklist.idempotency.entries", guard, IdempotencyGuard::localEntries)
+                    .description("Chaves de idempotência mantidas em memória nesta instância")
+                    .register(registry);
+            FunctionCounter.builder("tasklist.idempotency.replays", guard, IdempotencyGuard::replays)
+                    .description("Requisições repetidas atendidas com a resposta armazenada")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.jtech.tasklist.config.infra;
+
+import br.com.jtech.tasklist.adapters.output.notification.InMemoryTaskChangeBus;
+import br.com.jtech.tasklist.adapters.output.notification.PostgresTaskChangeBus;
+import br.com.jtech.tasklist.application.port.out.TaskChangeBusPort;
+import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import br.com.jtech.tasklist.application.service.RemoteChangeWindow;
+import br.com.jtech.tasklist.application.service.RemoteTaskChangeHandler;
+import br.com.jtech.tasklist.application.service.TaskIdFilter;
+import br.com.jtech.tasklist.application.service.TaskRevision;
+import br.com.jtech.tasklist.application.service.TaskTitleIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class TaskChangeBusConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tasklist.change-bus", name = "type", havingValue = "postgres")
+    public PostgresTaskChangeBus postgresTaskChangeBus(EntityManager entityManager, DataSourceProperties dataSource,
+                                                       TaskListProperties properties, Clock clock) {
+        TaskListProperties.ChangeBus config = properties.getChangeBus();
+        return new PostgresTaskChangeBus(
+                entityManager,
+                dataSource.determineUrl(),
+                dataSource.determineUsername(),
+                dataSource.determinePassword(),
+                config.getChannel(),
+                config.getPollInterval(),
+                config.getReconnectDelay(),
+                config.getDeliveryGrace(),
+                clock);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tasklist.change-bus", name = "type", havingValue = "memory", matchIfMissing = true)
+    public InMemoryTaskChangeBus inMemoryTaskChangeBus() {
+        return new InMemoryTaskChangeBus();
+    }
+
+    @Bean
+    public RemoteChangeWindow remoteChangeWindow(TaskListProperties properties) {
+        TaskListProperties.Replica replica = properties.getDb().getReplica();
+        Duration window = replica.isEnabled()
+                ? replica.getMaxLag().plus(replica.getCheckInterval()).plus(properties.getChangeBus().getPollInterval())
+                : Duration.ZERO;
+        return new RemoteChangeWindow(window);
+    }
+
+    @Bean
+    public RemoteTaskChangeHandler remoteTaskChangeHandler(TaskRepositoryPort repository, TaskIdFilter idFilter,
+                                                           TaskTitleIndex titleIndex, TaskRevision revision,
+                                                           CacheManager cacheManager, RemoteChangeWindow recentChanges,
+                                                           ApplicationEventPublisher events, Clock clock,
+                                                           TaskListProperties properties) {
+        return new RemoteTaskChangeHandler(repository, idFilter, titleIndex, revision, cacheManager.getCache("tasks"),
+                recentChanges, events, clock, properties.getChangeBus().getResyncOverlap());
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> taskChangeBusSubscriber(TaskChangeBusPort changeBus,
+                                                                              RemoteTaskChangeHandler handler) {
+        return event -> changeBus.subscribe(handler::onChange, handler::resync);
+    }
+
+    @Bean
+    public MeterBinder taskChangeBusMetrics(RemoteTaskChangeHandler handler) {
+        return registry -> {
+            FunctionCounter.builder("tasklist.changebus.received", handler, RemoteTaskChangeHandler::received)
+                    .description("Notificações de alteração recebidas de outras instâncias")
+                    .register(registry);
+            FunctionCounter.builder("tasklist.changebus.resyncs", handler, RemoteTaskChangeHandler::resyncs)
+                    .description("Ressincronizações feitas a partir de updated_at")
+                    .register(registry);
+        };
+    }
+}
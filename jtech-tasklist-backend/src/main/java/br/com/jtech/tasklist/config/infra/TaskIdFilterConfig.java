@@ -0,0 +1,48 @@
+package br.com.jtech.tasklist.config.infra;
+
+import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import br.com.jtech.tasklist.application.service.TaskIdFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TaskIdFilterConfig {
+
+    @Bean
+    public TaskIdFilter taskIdFilter(TaskListProperties properties) {
+        TaskListProperties.IdFilter config = properties.getIdFilter();
+        if (!config.isEnabled()) {
+            return TaskIdFilter.disabled();
+        }
+        return new TaskIdFilter(config.getExpectedInsertions(), config.getFalsePositiveRate());
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> taskIdFilterLoader(TaskIdFilter filter, TaskRepositoryPort repository) {
+        return event -> filter.load(repository);
+    }
+
+    @Bean
+    public MeterBinder taskIdFilterMetrics(TaskIdFilter filter) {
+        return registry -> {
+            Gauge.builder("tasklist.idfilter.false.positive.rate", filter, TaskIdFilter::expectedFalsePositiveRate)
+                    .description("Taxa estimada de falsos positivos do filtro de IDs")
+                    .register(registry);
+            Gauge.builder("tasklist.idfilter.memory", filter, TaskIdFilter::memoryBytes)
+                    .description("Memória ocupada pelo filtro de IDs")
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("tasklist.idfilter.insertions", filter, TaskIdFilter::insertions)
+                    .description("IDs adicionados ao filtro")
+                    .register(registry);
+            FunctionCounter.builder("tasklist.idfilter.rejections", filter, TaskIdFilter::rejections)
+                    .description("IDs consultados ausentes do filtro")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.jtech.tasklist.config.infra;
+
+import br.com.jtech.tasklist.domain.model.TaskIdGenerator;
+import br.com.jtech.tasklist.domain.model.TimeOrderedTaskIdGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class TaskIdGeneratorConfig {
+
+    @Bean
+    public TaskIdGenerator taskIdGenerator(TaskListProperties properties, Clock clock) {
+        return switch (properties.getIds().getStrategy()) {
+            case TIME_ORDERED -> new TimeOrderedTaskIdGenerator(clock);
+            case RANDOM -> TaskIdGenerator.RANDOM;
+        };
+    }
+}
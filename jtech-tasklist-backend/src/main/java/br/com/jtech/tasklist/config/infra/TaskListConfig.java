@@ -0,0 +1,9 @@
+package br.com.jtech.tasklist.config.infra;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TaskListProperties.class)
+public class TaskListConfig {
+}
@@ -0,0 +1,143 @@
+package br.com.jtech.tasklist.config.infra;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tasklist")
+public class TaskListProperties {
+
+    private final Batch batch = new Batch();
+    private final Ids ids = new Ids();
+    private final IdFilter idFilter = new IdFilter();
+    private final Suggest suggest = new Suggest();
+    private final Db db = new Db();
+    private final Stream stream = new Stream();
+    private final ChangeBus changeBus = new ChangeBus();
+    private final Changes changes = new Changes();
+    private final Search search = new Search();
+    private final Idempotency idempotency = new Idempotency();
+    private final ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+    @Getter
+    @Setter
+    public static class Batch {
+        private int chunkSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Ids {
+        public enum Strategy { TIME_ORDERED, RANDOM }
+
+        private Strategy strategy = Strategy.TIME_ORDERED;
+    }
+
+    @Getter
+    @Setter
+    public static class IdFilter {
+        private boolean enabled = true;
+        private long expectedInsertions = 1_000_000;
+        private double falsePositiveRate = 0.01;
+    }
+
+    @Getter
+    @Setter
+    public static class Suggest {
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Db {
+        public enum Dialect { POSTGRESQL, H2 }
+
+        private Dialect dialect = Dialect.POSTGRESQL;
+        private int maxConcurrency = 0;
+        private Duration acquireTimeout = Duration.ofSeconds(5);
+        private final Replica replica = new Replica();
+    }
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private boolean enabled = false;
+        private String url;
+        private String username;
+        private String password;
+        private Duration maxLag = Duration.ofSeconds(2);
+        private Duration checkInterval = Duration.ofSeconds(1);
+        private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery()"
+                + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+                + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+    }
+
+    @Getter
+    @Setter
+    public static class Stream {
+        private int bufferSize = 256;
+        private Duration heartbeat = Duration.ofSeconds(15);
+        private Duration timeout = Duration.ofMinutes(30);
+    }
+
+    @Getter
+    @Setter
+    public static class ChangeBus {
+        private String type = "memory";
+        private String channel = "task_changes";
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private Duration reconnectDelay = Duration.ofSeconds(5);
+        private Duration resyncOverlap = Duration.ofSeconds(30);
+        private Duration deliveryGrace = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Changes {
+        private Duration settleWindow = Duration.ofSeconds(5);
+        private Duration tombstoneRetention = Duration.ofDays(30);
+        private Duration tombstoneCleanupInterval = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Search {
+        public enum Mode { FULL_TEXT, LIKE }
+
+        private Mode mode = Mode.LIKE;
+        private int maxCandidates = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Idempotency {
+        private long localMaxSize = 10_000;
+        private Duration ttl = Duration.ofHours(24);
+        private Duration lease = Duration.ofSeconds(30);
+        private Duration waitTimeout = Duration.ofSeconds(10);
+        private Duration pollInterval = Duration.ofMillis(100);
+        private Duration cleanupInterval = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class ConcurrencyLimit {
+        private boolean enabled = true;
+        private Duration retryAfter = Duration.ofSeconds(1);
+        private final Limit reads = new Limit();
+        private final Limit lookups = new Limit();
+        private final Limit writes = new Limit();
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int initialLimit = 20;
+        private int minLimit = 5;
+        private int maxLimit = 200;
+    }
+}
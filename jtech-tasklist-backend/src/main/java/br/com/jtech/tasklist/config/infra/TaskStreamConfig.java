@@ -0,0 +1,34 @@
+package br.com.jtech.tasklist.config.infra;
+
+import br.com.jtech.tasklist.adapters.input.web.mapper.TaskWebMapper;
+import br.com.jtech.tasklist.adapters.input.web.stream.TaskChangeBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TaskStreamConfig {
+
+    @Bean
+    public TaskChangeBroadcaster taskChangeBroadcaster(TaskWebMapper mapper, ObjectMapper objectMapper,
+                                                       TaskListProperties properties) {
+        TaskListProperties.Stream config = properties.getStream();
+        return new TaskChangeBroadcaster(mapper, objectMapper, config.getBufferSize(), config.getHeartbeat(),
+                config.getTimeout());
+    }
+
+    @Bean
+    public MeterBinder taskStreamMetrics(TaskChangeBroadcaster broadcaster) {
+        return registry -> {
+            Gauge.builder("tasklist.stream.subscribers", broadcaster, TaskChangeBroadcaster::subscribers)
+                    .description("Clientes conectados ao stream de tarefas")
+                    .register(registry);
+            FunctionCounter.builder("tasklist.stream.dropped", broadcaster, TaskChangeBroadcaster::dropped)
+                    .description("Clientes removidos por não acompanhar o stream")
+                    .register(registry);
+        };
+    }
+}
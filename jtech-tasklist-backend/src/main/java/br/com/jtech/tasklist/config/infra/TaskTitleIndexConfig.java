@@ -0,0 +1,38 @@
+package br.com.jtech.tasklist.config.infra;
+
+import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import br.com.jtech.tasklist.application.service.TaskTitleIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TaskTitleIndexConfig {
+
+    @Bean
+    public TaskTitleIndex taskTitleIndex(TaskListProperties properties) {
+        return properties.getSuggest().isEnabled() ? new TaskTitleIndex() : TaskTitleIndex.disabled();
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> taskTitleIndexLoader(TaskTitleIndex index,
+                                                                           TaskRepositoryPort repository) {
+        return event -> index.load(repository);
+    }
+
+    @Bean
+    public MeterBinder taskTitleIndexMetrics(TaskTitleIndex index) {
+        return registry -> {
+            Gauge.builder("tasklist.suggest.entries", index, TaskTitleIndex::size)
+                    .description("Tarefas no índice de títulos para sugestões")
+                    .register(registry);
+            Gauge.builder("tasklist.suggest.memory", index, TaskTitleIndex::memoryBytes)
+                    .description("Memória estimada do índice de títulos")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+}
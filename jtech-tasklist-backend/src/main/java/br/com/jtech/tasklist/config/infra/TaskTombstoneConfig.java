@@ -0,0 +1,20 @@
+package br.com.jtech.tasklist.config.infra;
+
+import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import br.com.jtech.tasklist.application.service.TaskTombstonePruner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+@Configuration
+@EnableScheduling
+public class TaskTombstoneConfig {
+
+    @Bean
+    public TaskTombstonePruner taskTombstonePruner(TaskRepositoryPort repository, Clock clock,
+                                                   TaskListProperties properties) {
+        return new TaskTombstonePruner(repository, clock, properties.getChanges().getTombstoneRetention());
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.jtech.tasklist.config.infra.concurrency;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+public class AdaptiveConcurrencyLimit {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final LongSupplier nanoTime;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+    private double estimatedLimit;
+    private long minRttNanos = Long.MAX_VALUE;
+    private long samplesUntilProbe;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, LongSupplier nanoTime) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.nanoTime = nanoTime;
+        this.estimatedLimit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+        this.limit = (int) estimatedLimit;
+        this.samplesUntilProbe = (long) PROBE_MULTIPLIER * limit;
+    }
+
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return Optional.of(new Permit(nanoTime.getAsLong(), current + 1));
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long accepted() {
+        return accepted.sum();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtStart, boolean dropped) {
+        if (--samplesUntilProbe <= 0) {
+            minRttNanos = rttNanos;
+            samplesUntilProbe = (long) PROBE_MULTIPLIER * limit;
+        }
+        minRttNanos = Math.min(minRttNanos, Math.max(1, rttNanos));
+
+        double current = estimatedLimit;
+        double step = Math.max(1, Math.log10(current));
+        double next;
+        if (dropped) {
+            next = current * BACKOFF_RATIO;
+        } else if (inFlightAtStart * 2 < current) {
+            return;
+        } else {
+            double queued = current * (1 - (double) minRttNanos / Math.max(rttNanos, minRttNanos));
+            if (queued <= 3 * step) {
+                next = current + step;
+            } else if (queued >= 6 * step) {
+                next = current - step;
+            } else {
+                return;
+            }
+        }
+        estimatedLimit = Math.clamp(next, minLimit, maxLimit);
+        limit = (int) estimatedLimit;
+    }
+
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        public void onSuccess() {
+            release(false);
+        }
+
+        public void onDropped() {
+            release(true);
+        }
+
+        public void onIgnore() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private void release(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                update(nanoTime.getAsLong() - startNanos, inFlightAtStart, dropped);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.jtech.tasklist.config.infra.concurrency;
+
+import br.com.jtech.tasklist.config.infra.TaskListProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Clock;
+
+@Configuration
+@ConditionalOnProperty(prefix = "tasklist.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimit readConcurrencyLimit(TaskListProperties properties) {
+        return limit(properties.getConcurrencyLimit().getReads());
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimit lookupConcurrencyLimit(TaskListProperties properties) {
+        return limit(properties.getConcurrencyLimit().getLookups());
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimit writeConcurrencyLimit(TaskListProperties properties) {
+        return limit(properties.getConcurrencyLimit().getWrites());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AdaptiveConcurrencyLimit readConcurrencyLimit, AdaptiveConcurrencyLimit lookupConcurrencyLimit,
+            AdaptiveConcurrencyLimit writeConcurrencyLimit, TaskListProperties properties,
+            ObjectMapper objectMapper, Clock clock) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(readConcurrencyLimit, lookupConcurrencyLimit, writeConcurrencyLimit,
+                        properties.getConcurrencyLimit().getRetryAfter(), objectMapper, clock));
+        registration.addUrlPatterns("/api/v1/tasks", "/api/v1/tasks/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(AdaptiveConcurrencyLimit readConcurrencyLimit,
+                                               AdaptiveConcurrencyLimit lookupConcurrencyLimit,
+                                               AdaptiveConcurrencyLimit writeConcurrencyLimit) {
+        return registry -> {
+            register(registry, "read", readConcurrencyLimit);
+            register(registry, "lookup", lookupConcurrencyLimit);
+            register(registry, "write", writeConcurrencyLimit);
+        };
+    }
+
+    private static AdaptiveConcurrencyLimit limit(TaskListProperties.Limit config) {
+        return new AdaptiveConcurrencyLimit(config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit());
+    }
+
+    private static void register(MeterRegistry registry, String type, AdaptiveConcurrencyLimit limit) {
+        Gauge.builder("tasklist.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Limite atual de requisições simultâneas calculado pela latência")
+                .tag("type", type)
+                .register(registry);
+        Gauge.builder("tasklist.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Requisições em andamento sob o limite de concorrência")
+                .tag("type", type)
+                .register(registry);
+        FunctionCounter.builder("tasklist.concurrency.accepted", limit, AdaptiveConcurrencyLimit::accepted)
+                .description("Requisições admitidas pelo limite de concorrência")
+                .tag("type", type)
+                .register(registry);
+        FunctionCounter.builder("tasklist.concurrency.rejected", limit, AdaptiveConcurrencyLimit::rejected)
+                .description("Requisições rejeitadas com 503 pelo limite de concorrência")
+                .tag("type", type)
+                .register(registry);
+    }
+}
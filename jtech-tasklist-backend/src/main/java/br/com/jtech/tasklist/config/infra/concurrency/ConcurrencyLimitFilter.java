@@ -0,0 +1,117 @@
+package br.com.jtech.tasklist.config.infra.concurrency;
+
+import br.com.jtech.tasklist.adapters.input.web.exception.ErrorResponse;
+import br.com.jtech.tasklist.config.infra.metrics.StatementCountingInspector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Pattern TASK_ID = Pattern.compile(".*/tasks/[0-9a-fA-F-]{36}");
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private final AdaptiveConcurrencyLimit queries;
+    private final AdaptiveConcurrencyLimit lookups;
+    private final AdaptiveConcurrencyLimit writes;
+    private final Duration retryAfter;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return HttpMethod.OPTIONS.matches(request.getMethod())
+                || path.endsWith("/stream") || path.endsWith("/export") || path.endsWith("/suggest");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimit limit = limitFor(request);
+        Optional<AdaptiveConcurrencyLimit.Permit> permit = limit.tryAcquire();
+        if (permit.isEmpty()) {
+            reject(request, response, limit);
+            return;
+        }
+        boolean completed = false;
+        StatementCountingInspector.Scope statements = StatementCountingInspector.open();
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            statements.close();
+            if (!completed) {
+                permit.get().onDropped();
+            } else if (isLatencySample(request, response, statements.statements())) {
+                release(permit.get(), response.getStatus());
+            } else {
+                permit.get().onIgnore();
+            }
+        }
+    }
+
+    // Só entram na amostra de latência as requisições que foram ao banco: acertos de cache e ids barrados pelo
+    // filtro não medem a fila do Hikari, e a espera por uma Idempotency-Key em uso mede a outra requisição.
+    private static boolean isLatencySample(HttpServletRequest request, HttpServletResponse response, int statements) {
+        if (response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            return true;
+        }
+        if (statements == 0 || response.getStatus() == HttpStatus.NOT_MODIFIED.value()) {
+            return false;
+        }
+        return request.getHeader(IDEMPOTENCY_KEY) == null
+                || (response.getStatus() != HttpStatus.CONFLICT.value()
+                && !Boolean.parseBoolean(response.getHeader(IDEMPOTENT_REPLAYED)));
+    }
+
+    private AdaptiveConcurrencyLimit limitFor(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return writes;
+        }
+        return TASK_ID.matcher(request.getRequestURI()).matches() ? lookups : queries;
+    }
+
+    private static void release(AdaptiveConcurrencyLimit.Permit permit, int status) {
+        if (status >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            permit.onDropped();
+        } else {
+            permit.onSuccess();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, AdaptiveConcurrencyLimit limit)
+            throws IOException {
+        log.debug("Requisição {} {} rejeitada pelo limite de concorrência ({})",
+                request.getMethod(), request.getRequestURI(), limit.getLimit());
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "Servidor sobrecarregado, tente novamente em instantes",
+                LocalDateTime.now(clock)
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import br.com.jtech.tasklist.config.infra.TaskListProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+@Slf4j
+public class ConcurrencyLimitedDataSourcePostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+    private TaskListProperties.Db properties = new TaskListProperties.Db();
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        properties = Binder.get(environment)
+                .bind("tasklist.db", TaskListProperties.Db.class)
+                .orElseGet(TaskListProperties.Db::new);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource hikari)) {
+            return bean;
+        }
+        int maxConcurrency = properties.getMaxConcurrency() > 0
+                ? properties.getMaxConcurrency()
+                : hikari.getMaximumPoolSize();
+        log.info("Limitando acesso ao banco a {} conexões simultâneas (espera máxima de {})",
+                maxConcurrency, properties.getAcquireTimeout());
+        return new ConcurrencyLimitedDataSource(hikari, maxConcurrency, properties.getAcquireTimeout());
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DatabaseConcurrencyConfig {
+
+    @Bean
+    public static ConcurrencyLimitedDataSourcePostProcessor concurrencyLimitedDataSourcePostProcessor() {
+        return new ConcurrencyLimitedDataSourcePostProcessor();
+    }
+
+    @Bean
+    public MeterBinder databaseConcurrencyMetrics(DataSource dataSource) throws SQLException {
+        if (!dataSource.isWrapperFor(ConcurrencyLimitedDataSource.class)) {
+            return registry -> {};
+        }
+        ConcurrencyLimitedDataSource limited = dataSource.unwrap(ConcurrencyLimitedDataSource.class);
+        return registry -> {
+            Gauge.builder("tasklist.db.permits.available", limited, ConcurrencyLimitedDataSource::getAvailablePermits)
+                    .description("Permissões livres para abrir conexão com o banco")
+                    .register(registry);
+            Gauge.builder("tasklist.db.permits.waiting", limited, ConcurrencyLimitedDataSource::getWaitingThreads)
+                    .description("Threads aguardando permissão para abrir conexão com o banco")
+                    .register(registry);
+        };
+    }
+}
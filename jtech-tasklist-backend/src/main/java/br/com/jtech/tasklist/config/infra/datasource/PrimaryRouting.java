@@ -0,0 +1,37 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+public final class PrimaryRouting {
+
+    private static final ThreadLocal<Boolean> FORCED = ThreadLocal.withInitial(() -> false);
+
+    private PrimaryRouting() {
+    }
+
+    public static Scope force() {
+        boolean previous = FORCED.get();
+        FORCED.set(true);
+        return new Scope(previous);
+    }
+
+    public static boolean isForced() {
+        return FORCED.get();
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final boolean previous;
+
+        private Scope(boolean previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous) {
+                FORCED.set(true);
+            } else {
+                FORCED.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import br.com.jtech.tasklist.config.infra.TaskListProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+@Configuration
+@ConditionalOnProperty(prefix = "tasklist.db.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("tasklist.db.replica.hikari")
+    public HikariDataSource replicaDataSource(TaskListProperties properties) {
+        TaskListProperties.Replica replica = properties.getDb().getReplica();
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               TaskListProperties properties, Clock clock) {
+        TaskListProperties.Replica config = properties.getDb().getReplica();
+        if (config.getMaxLag().plus(config.getCheckInterval()).compareTo(properties.getChanges().getSettleWindow()) > 0) {
+            throw new IllegalStateException(
+                    "tasklist.changes.settle-window deve ser maior ou igual a tasklist.db.replica.max-lag + check-interval");
+        }
+        return new ReplicaLagMonitor(replica, config.getLagQuery(), config.getMaxLag(), config.getCheckInterval(), clock);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                             @Qualifier("replicaDataSource") DataSource replica,
+                                                             ReplicaLagMonitor lagMonitor) {
+        return new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaLagMonitor lagMonitor,
+                                                                            TaskListProperties properties,
+                                                                            Clock clock) {
+        TaskListProperties.Replica config = properties.getDb().getReplica();
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(lagMonitor, config.getMaxLag().plus(config.getCheckInterval()), clock));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> replicaLagMonitorStarter(ReplicaLagMonitor lagMonitor) {
+        return event -> lagMonitor.start();
+    }
+
+    @Bean
+    public MeterBinder readReplicaMetrics(ReplicaLagMonitor lagMonitor, ReplicaRoutingDataSource routing) {
+        return registry -> {
+            Gauge.builder("tasklist.db.replica.lag", lagMonitor, ReplicaLagMonitor::lagSeconds)
+                    .description("Atraso medido da réplica de leitura")
+                    .baseUnit("seconds")
+                    .register(registry);
+            FunctionCounter.builder("tasklist.db.replica.reads", routing, ReplicaRoutingDataSource::replicaReads)
+                    .description("Transações somente leitura atendidas pela réplica")
+                    .register(registry);
+            FunctionCounter.builder("tasklist.db.replica.fallbacks", routing, ReplicaRoutingDataSource::primaryFallbacks)
+                    .description("Transações somente leitura desviadas para o primário por atraso da réplica")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "tasklist-last-write";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Duration window;
+    private final Clock clock;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!isRead(request)) {
+            if (!HttpMethod.OPTIONS.matches(request.getMethod())) {
+                markWrite(response);
+            }
+            chain.doFilter(request, response);
+            return;
+        }
+        Instant writtenAt = lastWrite(request);
+        if (writtenAt == null || lagMonitor.hasCaughtUpWith(writtenAt)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        try (PrimaryRouting.Scope ignored = PrimaryRouting.force()) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private void markWrite(HttpServletResponse response) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE, String.valueOf(clock.millis()))
+                .path("/api")
+                .maxAge(window)
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private static Instant lastWrite(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return null;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Instant.ofEpochMilli(Long.parseLong(cookie.getValue()));
+                } catch (NumberFormatException ex) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+}
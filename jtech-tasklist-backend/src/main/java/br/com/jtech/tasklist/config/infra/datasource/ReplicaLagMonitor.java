@@ -0,0 +1,99 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final Clock clock;
+    private volatile Duration lag;
+    private volatile boolean running;
+    private Thread checker;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, Duration checkInterval, Clock clock) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.clock = clock;
+    }
+
+    public synchronized void start() {
+        if (!running) {
+            running = true;
+            checker = Thread.ofVirtual().name("replica-lag-monitor").start(this::check);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (checker != null) {
+            checker.interrupt();
+        }
+    }
+
+    public void refresh() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(lagQuery)) {
+            result.next();
+            Duration current = Duration.ofMillis(Math.round(result.getDouble(1) * 1000));
+            boolean wasWithinLimit = withinLimit(lag);
+            if (withinLimit(current) && !wasWithinLimit) {
+                log.info("Réplica de leitura disponível (atraso de {})", current);
+            } else if (!withinLimit(current) && wasWithinLimit) {
+                log.warn("Réplica de leitura com atraso de {}, leituras seguem para o primário", current);
+            }
+            lag = current;
+        } catch (SQLException | RuntimeException ex) {
+            if (lag != null) {
+                log.warn("Falha ao medir atraso da réplica, leituras seguem para o primário: {}", ex.getMessage());
+            }
+            lag = null;
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return withinLimit(lag);
+    }
+
+    public boolean hasCaughtUpWith(Instant writtenAt) {
+        Duration current = lag;
+        return withinLimit(current) && clock.instant().isAfter(writtenAt.plus(current).plus(checkInterval));
+    }
+
+    public double lagSeconds() {
+        Duration current = lag;
+        return current != null ? current.toMillis() / 1000.0 : Double.NaN;
+    }
+
+    private boolean withinLimit(Duration current) {
+        return current != null && current.compareTo(maxLag) <= 0;
+    }
+
+    private void check() {
+        while (running) {
+            refresh();
+            try {
+                Thread.sleep(checkInterval);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong primaryFallbacks = new AtomicLong();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.<Object, Object>of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PrimaryRouting.isForced()) {
+            return Target.PRIMARY;
+        }
+        if (lagMonitor.isReplicaUsable()) {
+            replicaReads.incrementAndGet();
+            return Target.REPLICA;
+        }
+        primaryFallbacks.incrementAndGet();
+        return Target.PRIMARY;
+    }
+
+    public long replicaReads() {
+        return replicaReads.get();
+    }
+
+    public long primaryFallbacks() {
+        return primaryFallbacks.get();
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.jtech.tasklist.domain.event;
+
+import java.util.UUID;
+
+public record TaskChangeNotice(TaskChangeType type, UUID id) {
+}
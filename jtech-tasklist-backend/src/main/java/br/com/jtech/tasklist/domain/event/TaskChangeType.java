@@ -0,0 +1,10 @@
+package br.com.jtech.tasklist.domain.event;
+
+public enum TaskChangeType {
+    CREATED,
+    CREATED_BATCH,
+    UPDATED,
+    UPDATED_BATCH,
+    DELETED,
+    RESYNC
+}
@@ -0,0 +1,32 @@
+package br.com.jtech.tasklist.domain.event;
+
+import br.com.jtech.tasklist.domain.model.Task;
+
+import java.util.UUID;
+
+public record TaskChangedEvent(TaskChangeType type, UUID id, Task task, Integer count, String revision) {
+
+    public static TaskChangedEvent created(Task task, String revision) {
+        return new TaskChangedEvent(TaskChangeType.CREATED, task.getId(), task, null, revision);
+    }
+
+    public static TaskChangedEvent createdBatch(int count, String revision) {
+        return new TaskChangedEvent(TaskChangeType.CREATED_BATCH, null, null, count, revision);
+    }
+
+    public static TaskChangedEvent updated(Task task, String revision) {
+        return new TaskChangedEvent(TaskChangeType.UPDATED, task.getId(), task, null, revision);
+    }
+
+    public static TaskChangedEvent updatedBatch(int count, String revision) {
+        return new TaskChangedEvent(TaskChangeType.UPDATED_BATCH, null, null, count, revision);
+    }
+
+    public static TaskChangedEvent deleted(UUID id, String revision) {
+        return new TaskChangedEvent(TaskChangeType.DELETED, id, null, null, revision);
+    }
+
+    public static TaskChangedEvent resync(int count, String revision) {
+        return new TaskChangedEvent(TaskChangeType.RESYNC, null, null, count, revision);
+    }
+}
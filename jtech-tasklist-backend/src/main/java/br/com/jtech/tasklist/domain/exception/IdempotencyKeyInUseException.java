@@ -0,0 +1,8 @@
+package br.com.jtech.tasklist.domain.exception;
+
+public class IdempotencyKeyInUseException extends RuntimeException {
+
+    public IdempotencyKeyInUseException(String key) {
+        super("A requisição com a chave de idempotência " + key + " ainda está em processamento", null, false, false);
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.jtech.tasklist.domain.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String key) {
+        super("A chave de idempotência " + key + " já foi usada com outro conteúdo", null, false, false);
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.jtech.tasklist.domain.exception;
+
+public class InvalidStatusTransitionException extends InvalidTaskException {
+
+    public InvalidStatusTransitionException(String message) {
+        super(message);
+    }
+}
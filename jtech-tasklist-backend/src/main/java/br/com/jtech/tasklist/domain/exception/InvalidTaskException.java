@@ -11,6 +11,26 @@ public class InvalidTaskException extends RuntimeException {
     }
 
     public static InvalidTaskException taskAlreadyCompleted() {
-        return new InvalidTaskException("Tarefa já concluída");
+        return new InvalidStatusTransitionException("Tarefa já concluída");
     }
-}
\ No newline at end of file
+
+    public static InvalidTaskException invalidCursor() {
+        return new InvalidTaskException("Cursor de paginação inválido");
+    }
+
+    public static InvalidTaskException invalidChangeToken() {
+        return new InvalidTaskException("Token de sincronização inválido");
+    }
+
+    public static InvalidTaskException searchTermRequired() {
+        return new InvalidTaskException("O termo de busca é obrigatório");
+    }
+
+    public static InvalidTaskException searchTermTooLong(int maxLength) {
+        return new InvalidTaskException("O termo de busca deve ter no máximo " + maxLength + " caracteres");
+    }
+
+    public static InvalidTaskException idempotencyKeyInvalid(int maxLength) {
+        return new InvalidTaskException("A chave de idempotência deve ter entre 1 e " + maxLength + " caracteres");
+    }
+}
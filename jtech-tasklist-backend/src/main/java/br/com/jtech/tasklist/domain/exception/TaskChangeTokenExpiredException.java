@@ -0,0 +1,11 @@
+package br.com.jtech.tasklist.domain.exception;
+
+import java.time.LocalDateTime;
+
+public class TaskChangeTokenExpiredException extends RuntimeException {
+
+    public TaskChangeTokenExpiredException(LocalDateTime oldestAvailable) {
+        super("Token de sincronização anterior às exclusões mantidas (desde " + oldestAvailable
+                + "); recarregue a lista completa", null, false, false);
+    }
+}
@@ -4,6 +4,6 @@ import java.util.UUID;
 
 public class TaskNotFoundException extends RuntimeException {
     public TaskNotFoundException(UUID id) {
-        super(String.format("Tarefa não encontrada com ID: " + id));
+        super("Tarefa não encontrada com ID: " + id, null, false, false);
     }
 }
@@ -0,0 +1,15 @@
+package br.com.jtech.tasklist.domain.exception;
+
+import java.util.UUID;
+
+public class TaskVersionConflictException extends RuntimeException {
+
+    public TaskVersionConflictException(UUID id, Long expectedVersion, Long currentVersion) {
+        super("Tarefa " + id + " foi alterada por outra requisição (versão esperada: " + expectedVersion
+                + ", versão atual: " + currentVersion + ")");
+    }
+
+    public TaskVersionConflictException(UUID id) {
+        super("Versão informada em If-Match não corresponde à tarefa " + id);
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.jtech.tasklist.domain.model;
+
+public record IdempotencyRecord(String requestHash, Integer responseStatus, String responseBody) {
+
+    public boolean completed() {
+        return responseStatus != null;
+    }
+
+    public boolean matches(String hash) {
+        return requestHash.equals(hash);
+    }
+}
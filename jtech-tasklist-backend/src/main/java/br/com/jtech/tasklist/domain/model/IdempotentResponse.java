@@ -0,0 +1,8 @@
+package br.com.jtech.tasklist.domain.model;
+
+public record IdempotentResponse(int status, String body, boolean replayed) {
+
+    public static IdempotentResponse of(int status, String body) {
+        return new IdempotentResponse(status, body, false);
+    }
+}
@@ -13,6 +13,7 @@ public class Task {
     private TaskStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     public Task() {}
     public Task(UUID id, String title, String description, TaskStatus status,
@@ -27,9 +28,13 @@ public class Task {
     }
 
     public Task(String title, String description, LocalDateTime now) {
+        this(TimeOrderedTaskIdGenerator.SYSTEM.nextId(), title, description, now);
+    }
+
+    public Task(UUID id, String title, String description, LocalDateTime now) {
         validateTitle(title);
 
-        this.id = UUID.randomUUID();
+        this.id = id;
         this.title = title;
         this.description = description;
         this.status = TaskStatus.PENDING;
@@ -53,7 +58,7 @@ public class Task {
         this.updatedAt = now;
     }
 
-    private void validateTitle(String title) {
+    static void validateTitle(String title) {
         if (title == null || title.isBlank()) {
             throw InvalidTaskException.titleIsRequired();
         }
@@ -65,11 +70,13 @@ public class Task {
     public TaskStatus getStatus() { return status; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public Long getVersion() { return version; }
     public void setId(UUID id) { this.id = id; }
     public void setTitle(String title) { this.title = title; }
     public void setDescription(String description) { this.description = description; }
     public void setStatus(TaskStatus status) { this.status = status; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    public void setVersion(Long version) { this.version = version; }
 }
 
@@ -0,0 +1,12 @@
+package br.com.jtech.tasklist.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+public record TaskChangeSet(
+        List<Task> updated,
+        List<UUID> deleted,
+        TaskChangeToken next,
+        boolean hasMore
+) {
+}
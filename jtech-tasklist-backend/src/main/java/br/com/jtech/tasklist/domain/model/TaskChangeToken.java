@@ -0,0 +1,29 @@
+package br.com.jtech.tasklist.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TaskChangeToken(
+        Position tasks,
+        Position tombstones
+) {
+    public static TaskChangeToken at(LocalDateTime until) {
+        Position end = Position.end(until);
+        return new TaskChangeToken(end, end);
+    }
+
+    public record Position(
+            LocalDateTime at,
+            UUID id
+    ) {
+        private static final UUID MIN_ID = new UUID(0, 0);
+
+        public static Position end(LocalDateTime until) {
+            return new Position(until, MIN_ID);
+        }
+
+        public Position max(Position other) {
+            return at.isBefore(other.at) ? other : this;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.jtech.tasklist.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TaskChanges(
+        UUID id,
+        String title,
+        String description,
+        TaskStatus status,
+        Long expectedVersion,
+        LocalDateTime updatedAt
+) {
+    public TaskChanges {
+        Task.validateTitle(title);
+    }
+
+    public boolean changesStatus() {
+        return status != null;
+    }
+}
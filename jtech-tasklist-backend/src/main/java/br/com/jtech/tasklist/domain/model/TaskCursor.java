@@ -0,0 +1,17 @@
+package br.com.jtech.tasklist.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TaskCursor(
+        LocalDateTime createdAt,
+        UUID id
+) {
+    public static TaskCursor of(Task task) {
+        return new TaskCursor(task.getCreatedAt(), task.getId());
+    }
+
+    public static TaskCursor of(TaskSummary summary) {
+        return new TaskCursor(summary.createdAt(), summary.id());
+    }
+}
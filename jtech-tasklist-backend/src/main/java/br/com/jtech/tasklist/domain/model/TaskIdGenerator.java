@@ -0,0 +1,11 @@
+package br.com.jtech.tasklist.domain.model;
+
+import java.util.UUID;
+
+@FunctionalInterface
+public interface TaskIdGenerator {
+
+    TaskIdGenerator RANDOM = UUID::randomUUID;
+
+    UUID nextId();
+}
@@ -0,0 +1,12 @@
+package br.com.jtech.tasklist.domain.model;
+
+import java.util.List;
+
+public record TaskPage(
+        List<Task> items,
+        TaskCursor nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
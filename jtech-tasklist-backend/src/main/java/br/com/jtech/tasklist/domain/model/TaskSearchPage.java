@@ -0,0 +1,9 @@
+package br.com.jtech.tasklist.domain.model;
+
+import java.util.List;
+
+public record TaskSearchPage(
+        List<Task> items,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,7 @@
+package br.com.jtech.tasklist.domain.model;
+
+public record TaskState(
+        TaskStatus status,
+        Long version
+) {
+}
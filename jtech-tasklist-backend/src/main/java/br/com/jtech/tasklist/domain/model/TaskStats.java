@@ -0,0 +1,20 @@
+package br.com.jtech.tasklist.domain.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+public record TaskStats(Map<TaskStatus, Long> countByStatus) {
+
+    public TaskStats {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, countByStatus.getOrDefault(status, 0L));
+        }
+        countByStatus = Collections.unmodifiableMap(counts);
+    }
+
+    public long total() {
+        return countByStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
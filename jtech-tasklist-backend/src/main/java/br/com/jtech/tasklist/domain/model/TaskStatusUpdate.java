@@ -0,0 +1,22 @@
+package br.com.jtech.tasklist.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public record TaskStatusUpdate(
+        List<UUID> updated,
+        List<UUID> alreadyCompleted,
+        List<UUID> notFound
+) {
+    public TaskStatusUpdate withNotFound(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return this;
+        }
+        return new TaskStatusUpdate(updated, alreadyCompleted, Stream.concat(notFound.stream(), ids.stream()).toList());
+    }
+
+    public boolean skippedAny() {
+        return !alreadyCompleted.isEmpty() || !notFound.isEmpty();
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.jtech.tasklist.domain.model;
+
+import java.util.UUID;
+
+public record TaskSuggestion(
+        UUID id,
+        String title
+) {
+}
@@ -0,0 +1,13 @@
+package br.com.jtech.tasklist.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TaskSummary(
+        UUID id,
+        String title,
+        TaskStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
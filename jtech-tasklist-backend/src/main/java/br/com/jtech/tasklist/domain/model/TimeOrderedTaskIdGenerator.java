@@ -0,0 +1,41 @@
+package br.com.jtech.tasklist.domain.model;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class TimeOrderedTaskIdGenerator implements TaskIdGenerator {
+
+    public static final TimeOrderedTaskIdGenerator SYSTEM = new TimeOrderedTaskIdGenerator(Clock.systemUTC());
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicLong lastStamp = new AtomicLong();
+
+    public TimeOrderedTaskIdGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    public static Optional<Instant> timestampOf(UUID id) {
+        return id.version() == 7
+                ? Optional.of(Instant.ofEpochMilli(id.getMostSignificantBits() >>> 16))
+                : Optional.empty();
+    }
+
+    @Override
+    public UUID nextId() {
+        long now = clock.millis() << SEQUENCE_BITS;
+        long stamp = lastStamp.updateAndGet(previous -> Math.max(previous + 1, now));
+        long mostSigBits = (stamp >>> SEQUENCE_BITS) << 16 | VERSION_7 | (stamp & SEQUENCE_MASK);
+        long leastSigBits = random.nextLong() >>> 2 | VARIANT_RFC;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
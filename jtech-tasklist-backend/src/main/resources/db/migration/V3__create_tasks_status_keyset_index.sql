@@ -0,0 +1,3 @@
+CREATE INDEX idx_tasks_status_created_at_id ON tasks(status, created_at, id);
+
+DROP INDEX IF EXISTS idx_tasks_status;
@@ -0,0 +1 @@
+CREATE INDEX idx_tasks_updated_at ON tasks(updated_at);
@@ -0,0 +1,12 @@
+UPDATE tasks SET updated_at = created_at WHERE updated_at IS NULL;
+ALTER TABLE tasks ALTER COLUMN updated_at SET NOT NULL;
+
+DROP INDEX IF EXISTS idx_tasks_updated_at;
+CREATE INDEX idx_tasks_updated_at_id ON tasks(updated_at, id);
+
+CREATE TABLE task_tombstones (
+    id UUID PRIMARY KEY,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_task_tombstones_deleted_at_id ON task_tombstones(deleted_at, id);
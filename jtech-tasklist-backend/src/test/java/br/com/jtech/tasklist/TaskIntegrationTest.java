@@ -1,8 +1,13 @@
 package br.com.jtech.tasklist;
 
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskBatchRequest;
 import br.com.jtech.tasklist.adapters.input.web.dto.TaskRequest;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskStatusUpdateRequest;
 import br.com.jtech.tasklist.adapters.input.web.dto.TaskUpdateRequest;
+import br.com.jtech.tasklist.adapters.output.notification.InMemoryTaskChangeBus;
 import br.com.jtech.tasklist.adapters.output.persistence.repositories.TaskRepository;
+import br.com.jtech.tasklist.domain.event.TaskChangeNotice;
+import br.com.jtech.tasklist.domain.event.TaskChangeType;
 import br.com.jtech.tasklist.domain.model.TaskStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.*;
@@ -12,9 +17,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -35,6 +44,9 @@ class TaskIntegrationTest {
     @Autowired
     private TaskRepository repository;
 
+    @Autowired
+    private InMemoryTaskChangeBus changeBus;
+
     @BeforeEach
     void setUp() {
         repository.deleteAll();
@@ -79,7 +91,7 @@ class TaskIntegrationTest {
 
         mockMvc.perform(get("/api/v1/tasks"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(1)));
+                .andExpect(jsonPath("$.items", hasSize(1)));
 
         mockMvc.perform(get("/api/v1/tasks/" + id))
                 .andExpect(status().isOk())
@@ -123,7 +135,8 @@ class TaskIntegrationTest {
 
         mockMvc.perform(get("/api/v1/tasks"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(3)));
+                .andExpect(jsonPath("$.items", hasSize(3)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
     }
 
     @Test
@@ -170,6 +183,430 @@ class TaskIntegrationTest {
     void deveRetornarListaVaziaQuandoNaoHouverTarefas() throws Exception {
         mockMvc.perform(get("/api/v1/tasks"))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Deve percorrer as páginas usando o cursor retornado")
+    void devePercorrerPaginasComCursor() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            TaskRequest request = TaskRequest.builder()
+                    .title("Tarefa Paginada " + i)
+                    .build();
+
+            mockMvc.perform(post("/api/v1/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        String firstPage = mockMvc.perform(get("/api/v1/tasks").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String cursor = mapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/tasks").param("limit", "2").param("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Deve exportar todas as tarefas em NDJSON")
+    void deveExportarTarefasEmNdjson() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            TaskRequest request = TaskRequest.builder()
+                    .title("Tarefa Exportada " + i)
+                    .build();
+
+            mockMvc.perform(post("/api/v1/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body.lines().toList())
+                .hasSize(3)
+                .allSatisfy(line -> assertThat(mapper.readTree(line).get("title").asText()).startsWith("Tarefa Exportada"));
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Deve criar tarefas em lote e listar as válidas")
+    void deveCriarTarefasEmLote() throws Exception {
+        TaskBatchRequest request = TaskBatchRequest.builder()
+                .tasks(List.of(
+                        TaskRequest.builder().title("Lote 1").build(),
+                        TaskRequest.builder().title("").build(),
+                        TaskRequest.builder().title("Lote 3").description("Descrição").build()))
+                .build();
+
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(request)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[1].created").value(false))
+                .andExpect(jsonPath("$.results[2].task.title").value("Lote 3"))
+                .andExpect(jsonPath("$.results[2].task.version").value(0));
+
+        mockMvc.perform(get("/api/v1/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)));
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Deve filtrar tarefas por status e retornar contagem por status")
+    void deveFiltrarPorStatusEContar() throws Exception {
+        UUID inProgressId = null;
+        for (int i = 0; i < 3; i++) {
+            String response = mockMvc.perform(post("/api/v1/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(TaskRequest.builder().title("Tarefa " + i).build())))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            inProgressId = UUID.fromString(mapper.readTree(response).get("id").asText());
+        }
+
+        TaskUpdateRequest update = TaskUpdateRequest.builder()
+                .title("Tarefa 2")
+                .status(TaskStatus.IN_PROGRESS)
+                .build();
+        mockMvc.perform(put("/api/v1/tasks/" + inProgressId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/tasks").param("status", "IN_PROGRESS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(inProgressId.toString()));
+
+        mockMvc.perform(get("/api/v1/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.byStatus.PENDING").value(2))
+                .andExpect(jsonPath("$.byStatus.IN_PROGRESS").value(1))
+                .andExpect(jsonPath("$.byStatus.COMPLETED").value(0));
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Deve responder 304 enquanto nenhuma tarefa mudar")
+    void deveResponderNaoModificado() throws Exception {
+        String response = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(TaskRequest.builder().title("Tarefa com ETag").build())))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        UUID id = UUID.fromString(mapper.readTree(response).get("id").asText());
+
+        String listETag = mockMvc.perform(get("/api/v1/tasks"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        String taskETag = mockMvc.perform(get("/api/v1/tasks/" + id))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/tasks").header("If-None-Match", listETag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/tasks/" + id).header("If-None-Match", taskETag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/api/v1/tasks/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(TaskUpdateRequest.builder()
+                                .title("Tarefa alterada")
+                                .status(TaskStatus.IN_PROGRESS)
+                                .build())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/tasks").header("If-None-Match", listETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Tarefa alterada"));
+        mockMvc.perform(get("/api/v1/tasks/" + id).header("If-None-Match", taskETag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Deve rejeitar com 412 a segunda edição baseada na mesma versão")
+    void deveRejeitarEdicaoConcorrente() throws Exception {
+        String response = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(TaskRequest.builder().title("Tarefa disputada").build())))
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        UUID id = UUID.fromString(mapper.readTree(response).get("id").asText());
+
+        String eTag = mockMvc.perform(get("/api/v1/tasks/" + id))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        TaskUpdateRequest first = TaskUpdateRequest.builder().title("Edição A").status(TaskStatus.IN_PROGRESS).build();
+        TaskUpdateRequest second = TaskUpdateRequest.builder().title("Edição B").status(TaskStatus.PENDING).build();
+
+        mockMvc.perform(put("/api/v1/tasks/" + id)
+                        .header("If-Match", eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(first)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(put("/api/v1/tasks/" + id)
+                        .header("If-Match", eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(second)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/v1/tasks/" + id))
+                .andExpect(jsonPath("$.title").value("Edição A"));
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Deve enviar pelo stream a tarefa criada")
+    void deveEnviarEventoPeloStream() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/v1/tasks/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(TaskRequest.builder().title("Tarefa transmitida").build())))
+                .andExpect(status().isCreated());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        String events = stream.getResponse().getContentAsString();
+        while (!events.contains("Tarefa transmitida") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            events = stream.getResponse().getContentAsString();
+        }
+
+        assertThat(events)
+                .contains("event:task.created")
+                .contains("\"type\":\"CREATED\"")
+                .contains("Tarefa transmitida");
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Deve descartar o cache local ao receber alteração de outra instância")
+    void deveAplicarAlteracaoDeOutraInstancia() throws Exception {
+        String response = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(TaskRequest.builder().title("Versão local").build())))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        UUID id = UUID.fromString(mapper.readTree(response).get("id").asText());
+
+        repository.updateDetailsInFinalTable(id, "Versão remota", null, LocalDateTime.now(), null);
+
+        mockMvc.perform(get("/api/v1/tasks/" + id))
+                .andExpect(jsonPath("$.title").value("Versão local"));
+
+        changeBus.receive(new TaskChangeNotice(TaskChangeType.UPDATED, id));
+
+        mockMvc.perform(get("/api/v1/tasks/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Versão remota"));
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Deve retornar apenas as tarefas alteradas e excluídas desde o token")
+    void deveSincronizarAlteracoesDesdeToken() throws Exception {
+        String token = mapper.readTree(mockMvc.perform(get("/api/v1/tasks/changes"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.updated", hasSize(0)))
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString())
+                .get("nextToken").asText();
+
+        String created = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(TaskRequest.builder().title("Tarefa sincronizada").build())))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        UUID createdId = UUID.fromString(mapper.readTree(created).get("id").asText());
+
+        String removed = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(TaskRequest.builder().title("Tarefa removida").build())))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        UUID removedId = UUID.fromString(mapper.readTree(removed).get("id").asText());
+
+        mockMvc.perform(delete("/api/v1/tasks/" + removedId))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/tasks/changes").param("since", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated", hasSize(1)))
+                .andExpect(jsonPath("$.updated[0].id").value(createdId.toString()))
+                .andExpect(jsonPath("$.deleted", hasSize(1)))
+                .andExpect(jsonPath("$.deleted[0]").value(removedId.toString()))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Deve concluir várias tarefas de uma vez informando as ignoradas")
+    void deveAlterarStatusEmBloco() throws Exception {
+        UUID first = createTask("Fechamento 1");
+        UUID second = createTask("Fechamento 2");
+        UUID alreadyCompleted = createTask("Fechamento 3");
+        UUID missing = UUID.randomUUID();
+
+        mockMvc.perform(put("/api/v1/tasks/" + alreadyCompleted)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(TaskUpdateRequest.builder()
+                                .title("Fechamento 3").status(TaskStatus.COMPLETED).build())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/api/v1/tasks/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(TaskStatusUpdateRequest.builder()
+                                .ids(List.of(first, second, alreadyCompleted, missing))
+                                .status(TaskStatus.COMPLETED)
+                                .build())))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.updated", hasSize(2)))
+                .andExpect(jsonPath("$.alreadyCompleted[0]").value(alreadyCompleted.toString()))
+                .andExpect(jsonPath("$.notFound[0]").value(missing.toString()));
+
+        mockMvc.perform(get("/api/v1/tasks/" + first))
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Deve buscar tarefas pelo termo priorizando o título")
+    void deveBuscarTarefasPeloTermo() throws Exception {
+        mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(TaskRequest.builder()
+                                .title("Revisar contratos").description("Conferir o orçamento anual").build())))
+                .andExpect(status().isCreated());
+        createTask("Orçamento anual");
+
+        mockMvc.perform(get("/api/v1/tasks/search").param("q", "ORÇAMENTO").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title").value("Orçamento anual"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+
+        mockMvc.perform(get("/api/v1/tasks/search").param("q", "orçamento").param("page", "1").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Revisar contratos"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Deve sugerir tarefas pelo início do título acompanhando alterações")
+    void deveSugerirTarefasPeloTitulo() throws Exception {
+        UUID id = createTask("Xícara de café");
+
+        mockMvc.perform(get("/api/v1/tasks/suggest").param("prefix", "xica"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(id.toString()));
+
+        mockMvc.perform(put("/api/v1/tasks/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(TaskUpdateRequest.builder()
+                                .title("Caneca de chá").status(TaskStatus.IN_PROGRESS).build())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/tasks/suggest").param("prefix", "xica"))
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/v1/tasks/suggest").param("prefix", "Caneca"))
+                .andExpect(jsonPath("$[0].title").value("Caneca de chá"));
+
+        mockMvc.perform(delete("/api/v1/tasks/" + id))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/tasks/suggest").param("prefix", "caneca"))
                 .andExpect(jsonPath("$", hasSize(0)));
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(19)
+    @DisplayName("Deve criar uma única tarefa ao repetir a requisição com a mesma chave de idempotência")
+    void deveCriarUmaTarefaPorChaveDeIdempotencia() throws Exception {
+        String body = mapper.writeValueAsString(TaskRequest.builder().title("Pagar boleto").build());
+        String key = UUID.randomUUID().toString();
+
+        String first = mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String id = mapper.readTree(first).get("id").asText();
+
+        mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(id));
+
+        mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(TaskRequest.builder().title("Outra tarefa").build())))
+                .andExpect(status().isUnprocessableEntity());
+
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    private UUID createTask(String title) throws Exception {
+        String response = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(TaskRequest.builder().title(title).build())))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return UUID.fromString(mapper.readTree(response).get("id").asText());
+    }
+}
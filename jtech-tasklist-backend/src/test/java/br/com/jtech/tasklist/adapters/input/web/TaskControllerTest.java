@@ -1,50 +1,106 @@
 package br.com.jtech.tasklist.adapters.input.web;
 
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskBatchItemResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskBatchRequest;
 import br.com.jtech.tasklist.adapters.input.web.dto.TaskRequest;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskStatusUpdateRequest;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskStatusUpdateResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskSuggestionResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskSummaryResponse;
+import br.com.jtech.tasklist.adapters.input.web.dto.TaskStatsResponse;
 import br.com.jtech.tasklist.adapters.input.web.dto.TaskUpdateRequest;
+import br.com.jtech.tasklist.adapters.input.web.mapper.TaskChangeTokenCodec;
+import br.com.jtech.tasklist.adapters.input.web.mapper.TaskCursorCodec;
+import br.com.jtech.tasklist.adapters.input.web.mapper.TaskETags;
 import br.com.jtech.tasklist.adapters.input.web.mapper.TaskWebMapper;
+import br.com.jtech.tasklist.adapters.input.web.stream.TaskChangeBroadcaster;
+import br.com.jtech.tasklist.application.port.in.CreateTaskBatchUseCase;
 import br.com.jtech.tasklist.application.port.in.CreateTaskUseCase;
 import br.com.jtech.tasklist.application.port.in.DeleteTaskUseCase;
+import br.com.jtech.tasklist.application.port.in.ExportTasksUseCase;
 import br.com.jtech.tasklist.application.port.in.FindTaskUseCase;
+import br.com.jtech.tasklist.application.port.in.UpdateTaskStatusUseCase;
 import br.com.jtech.tasklist.application.port.in.UpdateTaskUseCase;
+import br.com.jtech.tasklist.application.port.in.command.CreateTaskBatchCommand;
 import br.com.jtech.tasklist.application.port.in.command.CreateTaskCommand;
 import br.com.jtech.tasklist.application.port.in.command.DeleteTaskCommand;
 import br.com.jtech.tasklist.application.port.in.command.UpdateTaskCommand;
+import br.com.jtech.tasklist.application.port.in.command.UpdateTaskStatusCommand;
+import br.com.jtech.tasklist.application.port.in.query.FindTaskChangesQuery;
+import br.com.jtech.tasklist.application.port.in.query.FindTasksQuery;
+import br.com.jtech.tasklist.application.port.in.query.SearchTasksQuery;
+import br.com.jtech.tasklist.application.port.in.query.SuggestTasksQuery;
+import br.com.jtech.tasklist.application.port.in.result.TaskBatchItemResult;
+import br.com.jtech.tasklist.application.service.IdempotencyGuard;
+import br.com.jtech.tasklist.domain.exception.IdempotencyKeyInUseException;
+import br.com.jtech.tasklist.domain.exception.TaskChangeTokenExpiredException;
 import br.com.jtech.tasklist.domain.exception.TaskNotFoundException;
+import br.com.jtech.tasklist.domain.exception.TaskVersionConflictException;
+import br.com.jtech.tasklist.domain.model.IdempotentResponse;
 import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskChangeSet;
+import br.com.jtech.tasklist.domain.model.TaskChangeToken;
+import br.com.jtech.tasklist.domain.model.TaskCursor;
+import br.com.jtech.tasklist.domain.model.TaskPage;
+import br.com.jtech.tasklist.domain.model.TaskSearchPage;
+import br.com.jtech.tasklist.domain.model.TaskStats;
 import br.com.jtech.tasklist.domain.model.TaskStatus;
+import br.com.jtech.tasklist.domain.model.TaskStatusUpdate;
+import br.com.jtech.tasklist.domain.model.TaskSuggestion;
+import br.com.jtech.tasklist.domain.model.TaskSummary;
+import br.com.jtech.tasklist.domain.model.TaskSummaryPage;
+import br.com.jtech.tasklist.domain.exception.InvalidTaskException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TaskController.class)
+@Import(SimpleMeterRegistry.class)
 @DisplayName("TaskController - Unit Tests")
 class TaskControllerTest {
 
@@ -54,21 +110,39 @@ class TaskControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockitoBean
     private CreateTaskUseCase createTaskUseCase;
 
+    @MockitoBean
+    private CreateTaskBatchUseCase createTaskBatchUseCase;
+
     @MockitoBean
     private FindTaskUseCase findTaskUseCase;
 
     @MockitoBean
     private UpdateTaskUseCase updateTaskUseCase;
 
+    @MockitoBean
+    private UpdateTaskStatusUseCase updateTaskStatusUseCase;
+
     @MockitoBean
     private DeleteTaskUseCase deleteTaskUseCase;
 
+    @MockitoBean
+    private ExportTasksUseCase exportTasksUseCase;
+
     @MockitoBean
     private TaskWebMapper mapper;
 
+    @MockitoBean
+    private TaskChangeBroadcaster broadcaster;
+
+    @MockitoBean
+    private IdempotencyGuard idempotencyGuard;
+
     @MockitoBean
     private Clock clock;
 
@@ -116,6 +190,104 @@ class TaskControllerTest {
         verify(createTaskUseCase).create(any(CreateTaskCommand.class));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/tasks - Deve criar pela chave de idempotência na primeira requisição")
+    @SuppressWarnings("unchecked")
+    void deveCriarTarefaComChaveDeIdempotencia() throws Exception {
+        TaskRequest request = new TaskRequest("Nova Tarefa", "Descrição");
+        UUID id = UUID.randomUUID();
+        Task savedTask = new Task(id, "Nova Tarefa", "Descrição", TaskStatus.PENDING, now, now);
+
+        when(mapper.toCreateTaskCommand(any(TaskRequest.class))).thenReturn(new CreateTaskCommand("Nova Tarefa", "Descrição"));
+        when(createTaskUseCase.create(any(CreateTaskCommand.class))).thenReturn(savedTask);
+        when(mapper.toResponse(savedTask)).thenReturn(TaskResponse.builder().id(id).title("Nova Tarefa").build());
+        when(idempotencyGuard.execute(eq("chave-1"), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(2, Supplier.class).get());
+
+        mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andExpect(jsonPath("$.id").value(id.toString()));
+
+        verify(createTaskUseCase).create(any(CreateTaskCommand.class));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/tasks - Deve repetir a resposta armazenada sem criar outra tarefa")
+    void deveRepetirRespostaArmazenada() throws Exception {
+        TaskRequest request = new TaskRequest("Nova Tarefa", "Descrição");
+        UUID id = UUID.randomUUID();
+        String stored = objectMapper.writeValueAsString(TaskResponse.builder().id(id).title("Nova Tarefa").build());
+
+        when(idempotencyGuard.execute(eq("chave-1"), any(), any()))
+                .thenReturn(new IdempotentResponse(201, stored, true));
+
+        mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(id.toString()));
+
+        verify(createTaskUseCase, never()).create(any(CreateTaskCommand.class));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/tasks - Deve retornar 409 enquanto a mesma chave estiver em processamento")
+    void deveRetornar409ParaChaveEmProcessamento() throws Exception {
+        when(idempotencyGuard.execute(eq("chave-1"), any(), any()))
+                .thenThrow(new IdempotencyKeyInUseException("chave-1"));
+
+        mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskRequest("Nova Tarefa", null))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(containsString("chave-1")));
+    }
+
+
+    @Test
+    @DisplayName("POST /api/v1/tasks/batch - Deve retornar 207 quando parte do lote falhar")
+    void deveCriarLoteParcialmente() throws Exception {
+
+        TaskBatchRequest request = new TaskBatchRequest(List.of(
+                new TaskRequest("Válida", null),
+                new TaskRequest("", null)
+        ));
+        Task savedTask = new Task(UUID.randomUUID(), "Válida", null, TaskStatus.PENDING, now, now);
+        List<TaskBatchItemResult> results = List.of(
+                TaskBatchItemResult.created(0, savedTask),
+                TaskBatchItemResult.failed(1, "O título da tarefa é obrigatório")
+        );
+
+        when(mapper.toCreateTaskBatchCommand(any(TaskBatchRequest.class))).thenReturn(new CreateTaskBatchCommand(List.of()));
+        when(createTaskBatchUseCase.createAll(any(CreateTaskBatchCommand.class))).thenReturn(results);
+        when(mapper.toBatchItemResponse(any(TaskBatchItemResult.class))).thenReturn(new TaskBatchItemResponse());
+
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/tasks/batch - Deve rejeitar lote vazio")
+    void deveRejeitarLoteVazio() throws Exception {
+
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBatchRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verify(createTaskBatchUseCase, never()).createAll(any());
+    }
 
     @Test
     @DisplayName("GET /api/v1/tasks - Deve listar tarefas")
@@ -130,15 +302,286 @@ class TaskControllerTest {
                 LocalDateTime.now()
         );
 
-        when(findTaskUseCase.findAll()).thenReturn(List.of(task));
+        when(findTaskUseCase.findAll(any(FindTasksQuery.class))).thenReturn(new TaskPage(List.of(task), null));
 
         mockMvc.perform(get("/api/v1/tasks"))
                 .andExpect(status().isOk())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(findTaskUseCase).findAll(any(FindTasksQuery.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks - Deve repassar cursor e limite para o caso de uso")
+    void deveRepassarCursorELimite() throws Exception {
+
+        TaskCursor cursor = new TaskCursor(LocalDateTime.of(2025, 12, 11, 20, 30), UUID.randomUUID());
+
+        when(findTaskUseCase.findAll(any(FindTasksQuery.class))).thenReturn(new TaskPage(List.of(), null));
+
+        mockMvc.perform(get("/api/v1/tasks")
+                        .param("after", TaskCursorCodec.encode(cursor))
+                        .param("limit", "5"))
+                .andExpect(status().isOk());
+
+        verify(findTaskUseCase).findAll(new FindTasksQuery(null, cursor, 5));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks - Deve retornar 304 sem consultar tarefas quando a revisão não mudou")
+    void deveRetornar304ParaColecaoInalterada() throws Exception {
+
+        when(findTaskUseCase.revision()).thenReturn("abc.1");
+        String eTag = TaskETags.forPage("abc.1", FindTasksQuery.firstPage());
+
+        mockMvc.perform(get("/api/v1/tasks").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        verify(findTaskUseCase, never()).findAll(any(FindTasksQuery.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks - Deve devolver nova página quando a revisão mudar")
+    void deveRetornarPaginaQuandoRevisaoMudar() throws Exception {
+
+        when(findTaskUseCase.revision()).thenReturn("abc.2");
+        when(findTaskUseCase.findAll(any(FindTasksQuery.class))).thenReturn(new TaskPage(List.of(), null));
+
+        mockMvc.perform(get("/api/v1/tasks")
+                        .header("If-None-Match", TaskETags.forPage("abc.1", FindTasksQuery.firstPage())))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", TaskETags.forPage("abc.2", FindTasksQuery.firstPage())));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks?view=summary - Deve listar apenas o resumo das tarefas")
+    void deveListarResumoDasTarefas() throws Exception {
+
+        TaskSummary summary = new TaskSummary(UUID.randomUUID(), "Resumo", TaskStatus.PENDING, now, now);
+        when(findTaskUseCase.revision()).thenReturn("abc.1");
+        when(findTaskUseCase.findSummaries(new FindTasksQuery(TaskStatus.PENDING, null, 20)))
+                .thenReturn(new TaskSummaryPage(List.of(summary), null));
+        when(mapper.toSummaryResponse(summary)).thenReturn(TaskSummaryResponse.builder()
+                .id(summary.id())
+                .title("Resumo")
+                .status(TaskStatus.PENDING)
+                .updatedAt(now)
+                .build());
+
+        mockMvc.perform(get("/api/v1/tasks").param("view", "summary").param("status", "PENDING"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", TaskETags.forSummaryPage("abc.1",
+                        new FindTasksQuery(TaskStatus.PENDING, null, 20))))
+                .andExpect(jsonPath("$.items[0].title").value("Resumo"))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(findTaskUseCase, never()).findAll(any(FindTasksQuery.class));
+        verify(mapper, never()).toResponse(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks - Deve repassar o filtro de status para o caso de uso")
+    void deveRepassarFiltroDeStatus() throws Exception {
+
+        when(findTaskUseCase.findAll(any(FindTasksQuery.class))).thenReturn(new TaskPage(List.of(), null));
+
+        mockMvc.perform(get("/api/v1/tasks").param("status", "IN_PROGRESS"))
+                .andExpect(status().isOk());
+
+        verify(findTaskUseCase).findAll(new FindTasksQuery(TaskStatus.IN_PROGRESS, null, FindTasksQuery.DEFAULT_LIMIT));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks - Deve retornar 400 para status inválido")
+    void deveRetornar400ParaStatusInvalido() throws Exception {
+
+        mockMvc.perform(get("/api/v1/tasks").param("status", "ARQUIVADA"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Valor inválido para o parâmetro status"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/stats - Deve retornar contagem por status")
+    void deveRetornarContagemPorStatus() throws Exception {
+
+        TaskStats stats = new TaskStats(Map.of(TaskStatus.PENDING, 2L));
+        when(findTaskUseCase.stats()).thenReturn(stats);
+        when(mapper.toStatsResponse(stats)).thenReturn(TaskStatsResponse.builder()
+                .total(2)
+                .byStatus(stats.countByStatus())
+                .build());
+
+        mockMvc.perform(get("/api/v1/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.byStatus.PENDING").value(2))
+                .andExpect(jsonPath("$.byStatus.COMPLETED").value(0));
+    }
 
-        verify(findTaskUseCase).findAll();
+    @Test
+    @DisplayName("GET /api/v1/tasks/changes - Deve retornar alterações e exclusões desde o token")
+    void deveRetornarAlteracoesDesdeToken() throws Exception {
+
+        UUID deletedId = UUID.randomUUID();
+        TaskChangeToken since = TaskChangeToken.at(now.minusHours(1));
+        TaskChangeToken next = TaskChangeToken.at(now);
+        Task task = new Task("Alterada", null, now);
+        when(findTaskUseCase.findChanges(new FindTaskChangesQuery(since, 100)))
+                .thenReturn(new TaskChangeSet(List.of(task), List.of(deletedId), next, false));
+        when(mapper.toResponse(task)).thenReturn(TaskResponse.builder().id(task.getId()).title("Alterada").build());
+
+        mockMvc.perform(get("/api/v1/tasks/changes")
+                        .param("since", TaskChangeTokenCodec.encode(since))
+                        .param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated[0].title").value("Alterada"))
+                .andExpect(jsonPath("$.deleted[0]").value(deletedId.toString()))
+                .andExpect(jsonPath("$.nextToken").value(TaskChangeTokenCodec.encode(next)))
+                .andExpect(jsonPath("$.hasMore").value(false));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/tasks/changes - Deve retornar 410 quando o token for mais antigo que a retenção")
+    void deveRetornarGoneParaTokenExpirado() throws Exception {
+
+        TaskChangeToken since = TaskChangeToken.at(now.minusDays(60));
+        when(findTaskUseCase.findChanges(new FindTaskChangesQuery(since, 500)))
+                .thenThrow(new TaskChangeTokenExpiredException(now.minusDays(30)));
+
+        mockMvc.perform(get("/api/v1/tasks/changes").param("since", TaskChangeTokenCodec.encode(since)))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.message").value(containsString("recarregue")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/search - Deve buscar tarefas pelo termo")
+    void deveBuscarTarefasPeloTermo() throws Exception {
+
+        Task task = new Task(UUID.randomUUID(), "Relatório mensal", null, TaskStatus.PENDING, now, now);
+        SearchTasksQuery query = new SearchTasksQuery("relatório", 1, 10);
+        when(findTaskUseCase.revision()).thenReturn("abc.1");
+        when(findTaskUseCase.search(query)).thenReturn(new TaskSearchPage(List.of(task), true));
+        when(mapper.toResponse(task)).thenReturn(TaskResponse.builder()
+                .id(task.getId())
+                .title("Relatório mensal")
+                .status(TaskStatus.PENDING)
+                .build());
+
+        mockMvc.perform(get("/api/v1/tasks/search")
+                        .param("q", " relatório ")
+                        .param("page", "1")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", TaskETags.forSearch("abc.1", query)))
+                .andExpect(jsonPath("$.items[0].title").value("Relatório mensal"))
+                .andExpect(jsonPath("$.page").value(1))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/search - Deve retornar 400 sem termo de busca")
+    void deveRetornar400SemTermoDeBusca() throws Exception {
+
+        mockMvc.perform(get("/api/v1/tasks/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("O termo de busca é obrigatório"));
+
+        verify(findTaskUseCase, never()).search(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/suggest - Deve sugerir tarefas pelo prefixo do título")
+    void deveSugerirTarefasPeloPrefixo() throws Exception {
+
+        TaskSuggestion suggestion = new TaskSuggestion(UUID.randomUUID(), "Orçamento anual");
+        when(findTaskUseCase.suggest(new SuggestTasksQuery("orç", 5))).thenReturn(List.of(suggestion));
+        when(mapper.toSuggestionResponse(suggestion)).thenReturn(TaskSuggestionResponse.builder()
+                .id(suggestion.id())
+                .title(suggestion.title())
+                .build());
+
+        mockMvc.perform(get("/api/v1/tasks/suggest").param("prefix", "orç").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(suggestion.id().toString()))
+                .andExpect(jsonPath("$[0].title").value("Orçamento anual"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/changes - Deve retornar 400 para token inválido")
+    void deveRetornar400ParaTokenDeSincronizacaoInvalido() throws Exception {
+
+        mockMvc.perform(get("/api/v1/tasks/changes").param("since", "token-invalido"))
+                .andExpect(status().isBadRequest());
+
+        verify(findTaskUseCase, never()).findChanges(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks - Deve retornar 400 para cursor inválido")
+    void deveRetornar400ParaCursorInvalido() throws Exception {
+
+        mockMvc.perform(get("/api/v1/tasks").param("after", "cursor-invalido"))
+                .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/export - Deve transmitir tarefas em NDJSON")
+    void deveExportarTarefasEmNdjson() throws Exception {
+
+        Task task = new Task(
+                UUID.randomUUID(),
+                "Teste",
+                "Desc",
+                TaskStatus.PENDING,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(0);
+            consumer.accept(task);
+            consumer.accept(task);
+            return null;
+        }).when(exportTasksUseCase).exportAll(any());
+        when(mapper.toResponse(task)).thenReturn(TaskResponse.builder().id(task.getId()).title("Teste").build());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("\"title\":\"Teste\"")))
+                .andExpect(content().string(containsString("}\n{")));
+
+        verify(exportTasksUseCase).exportAll(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/stream - Deve abrir stream de eventos")
+    void deveAbrirStreamDeEventos() throws Exception {
+
+        SseEmitter emitter = new SseEmitter();
+        when(broadcaster.subscribe()).thenReturn(emitter);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        emitter.send(SseEmitter.event().name("task.deleted").data("{\"type\":\"DELETED\"}"));
+        emitter.complete();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string(containsString("event:task.deleted")));
+
+        verify(broadcaster).subscribe();
+    }
 
     @Test
     @DisplayName("GET /api/v1/tasks/{id} - Deve buscar tarefa por id")
@@ -155,14 +598,49 @@ class TaskControllerTest {
                 LocalDateTime.now()
         );
 
+        when(findTaskUseCase.revision()).thenReturn("abc.1");
         when(findTaskUseCase.findById(id)).thenReturn(task);
 
         mockMvc.perform(get("/api/v1/tasks/" + id))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", TaskETags.forTask(task, "abc.1")));
 
         verify(findTaskUseCase).findById(id);
     }
 
+    @Test
+    @DisplayName("GET /api/v1/tasks/{id} - Deve retornar 304 quando a tarefa não mudou")
+    void deveRetornar304ParaTarefaInalterada() throws Exception {
+
+        UUID id = UUID.randomUUID();
+        Task task = new Task(id, "Teste", "Desc", TaskStatus.PENDING, now, now);
+
+        when(findTaskUseCase.findById(id)).thenReturn(task);
+
+        mockMvc.perform(get("/api/v1/tasks/" + id).header("If-None-Match", TaskETags.forTask(task)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(mapper, never()).toResponse(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/{id} - Deve retornar 304 sem carregar a tarefa quando a revisão não mudou")
+    void deveRetornar304SemCarregarTarefa() throws Exception {
+
+        UUID id = UUID.randomUUID();
+        Task task = new Task(id, "Teste", "Desc", TaskStatus.PENDING, now, now);
+        task.setVersion(2L);
+        String eTag = TaskETags.forTask(task, "abc.1");
+        when(findTaskUseCase.revision()).thenReturn("abc.1");
+
+        mockMvc.perform(get("/api/v1/tasks/" + id).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag));
+
+        verify(findTaskUseCase, never()).findById(any());
+    }
+
 
     @Test
     @DisplayName("GET /api/v1/tasks/{id} - Deve retornar 404")
@@ -187,14 +665,16 @@ class TaskControllerTest {
         TaskUpdateRequest request = new TaskUpdateRequest(
                 "Atualizada",
                 "Nova descrição",
-                TaskStatus.IN_PROGRESS
+                TaskStatus.IN_PROGRESS,
+                null
         );
 
         UpdateTaskCommand command = new UpdateTaskCommand(
                 id,
                 request.getTitle(),
                 request.getDescription(),
-                request.getStatus()
+                request.getStatus(),
+                null
         );
 
         Task updated = new Task(
@@ -217,6 +697,113 @@ class TaskControllerTest {
         verify(updateTaskUseCase).update(any(UpdateTaskCommand.class));
     }
 
+    @Test
+    @DisplayName("PUT /api/v1/tasks/{id} - Deve usar a versão do If-Match")
+    void deveUsarVersaoDoIfMatch() throws Exception {
+
+        UUID id = UUID.randomUUID();
+        TaskUpdateRequest request = TaskUpdateRequest.builder()
+                .title("Atualizada")
+                .status(TaskStatus.IN_PROGRESS)
+                .build();
+        Task current = new Task(id, "Atualizada", null, TaskStatus.IN_PROGRESS, now, now);
+        current.setVersion(4L);
+        Task updated = new Task(id, "Atualizada", null, TaskStatus.IN_PROGRESS, now, now);
+        updated.setVersion(5L);
+
+        when(mapper.toUpdateTaskCommand(eq(id), any(TaskUpdateRequest.class))).thenAnswer(invocation -> {
+            TaskUpdateRequest received = invocation.getArgument(1);
+            return new UpdateTaskCommand(id, received.getTitle(), null, received.getStatus(), received.getVersion());
+        });
+        when(updateTaskUseCase.update(any(UpdateTaskCommand.class))).thenReturn(updated);
+
+        mockMvc.perform(put("/api/v1/tasks/" + id)
+                        .header("If-Match", TaskETags.forTask(current))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", TaskETags.forTask(updated)));
+
+        verify(updateTaskUseCase).update(new UpdateTaskCommand(id, "Atualizada", null, TaskStatus.IN_PROGRESS, 4L));
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/tasks/{id} - Deve retornar 412 quando a versão não confere")
+    void deveRetornar412ParaConflitoDeVersao() throws Exception {
+
+        UUID id = UUID.randomUUID();
+        TaskUpdateRequest request = TaskUpdateRequest.builder()
+                .title("Atualizada")
+                .status(TaskStatus.IN_PROGRESS)
+                .version(1L)
+                .build();
+
+        when(updateTaskUseCase.update(any())).thenThrow(new TaskVersionConflictException(id, 1L, 2L));
+
+        mockMvc.perform(put("/api/v1/tasks/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/tasks/{id} - Deve retornar 412 para If-Match de outra tarefa")
+    void deveRetornar412ParaIfMatchDeOutraTarefa() throws Exception {
+
+        UUID id = UUID.randomUUID();
+        TaskUpdateRequest request = TaskUpdateRequest.builder()
+                .title("Atualizada")
+                .status(TaskStatus.IN_PROGRESS)
+                .build();
+
+        mockMvc.perform(put("/api/v1/tasks/" + id)
+                        .header("If-Match", "\"" + UUID.randomUUID() + ".v1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(updateTaskUseCase, never()).update(any());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/tasks/status - Deve retornar 207 informando as tarefas ignoradas")
+    void deveAlterarStatusEmBloco() throws Exception {
+
+        UUID updatedId = UUID.randomUUID();
+        UUID completedId = UUID.randomUUID();
+        TaskStatusUpdateRequest request = new TaskStatusUpdateRequest(List.of(updatedId, completedId), TaskStatus.COMPLETED);
+        TaskStatusUpdate result = new TaskStatusUpdate(List.of(updatedId), List.of(completedId), List.of());
+
+        when(mapper.toUpdateTaskStatusCommand(any(TaskStatusUpdateRequest.class)))
+                .thenReturn(new UpdateTaskStatusCommand(request.getIds(), request.getStatus()));
+        when(updateTaskStatusUseCase.updateStatus(any(UpdateTaskStatusCommand.class))).thenReturn(result);
+        when(mapper.toStatusUpdateResponse(result)).thenReturn(TaskStatusUpdateResponse.builder()
+                .updated(result.updated())
+                .alreadyCompleted(result.alreadyCompleted())
+                .notFound(result.notFound())
+                .build());
+
+        mockMvc.perform(patch("/api/v1/tasks/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.updated[0]").value(updatedId.toString()))
+                .andExpect(jsonPath("$.alreadyCompleted[0]").value(completedId.toString()));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/tasks/status - Deve rejeitar requisição sem status")
+    void deveRejeitarAlteracaoDeStatusSemStatus() throws Exception {
+
+        mockMvc.perform(patch("/api/v1/tasks/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskStatusUpdateRequest(List.of(UUID.randomUUID()), null))))
+                .andExpect(status().isBadRequest());
+
+        verify(updateTaskStatusUseCase, never()).updateStatus(any());
+    }
+
     @Test
     @DisplayName("DELETE /api/v1/tasks/{id} - Deve deletar")
     void deveDeletar() throws Exception {
@@ -246,4 +833,30 @@ class TaskControllerTest {
 
         verify(deleteTaskUseCase).delete(any(DeleteTaskCommand.class));
     }
+
+    @Test
+    @DisplayName("PUT /api/v1/tasks/{id} - Deve contar rejeição por transição inválida")
+    void deveContarRejeicaoPorTransicaoInvalida() throws Exception {
+
+        UUID id = UUID.randomUUID();
+        TaskUpdateRequest request = new TaskUpdateRequest("Título", "Descrição", TaskStatus.PENDING, null);
+        double before = rejections("invalid_transition");
+
+        when(mapper.toUpdateTaskCommand(eq(id), any(TaskUpdateRequest.class)))
+                .thenReturn(new UpdateTaskCommand(id, "Título", "Descrição", TaskStatus.PENDING, null));
+        when(updateTaskUseCase.update(any(UpdateTaskCommand.class)))
+                .thenThrow(InvalidTaskException.taskAlreadyCompleted());
+
+        mockMvc.perform(put("/api/v1/tasks/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        assertThat(rejections("invalid_transition")).isEqualTo(before + 1);
+    }
+
+    private double rejections(String reason) {
+        var counter = meterRegistry.find("tasklist.task.rejections").tag("reason", reason).counter();
+        return counter == null ? 0 : counter.count();
+    }
 }
@@ -0,0 +1,44 @@
+package br.com.jtech.tasklist.adapters.input.web.mapper;
+
+import br.com.jtech.tasklist.domain.exception.InvalidTaskException;
+import br.com.jtech.tasklist.domain.model.TaskChangeToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TaskChangeTokenCodec - Testes Unitários")
+class TaskChangeTokenCodecTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar o token sem perda")
+    void deveCodificarEDecodificarToken() {
+        TaskChangeToken token = new TaskChangeToken(
+                new TaskChangeToken.Position(LocalDateTime.of(2025, 12, 11, 20, 30, 15, 123_456_000), UUID.randomUUID()),
+                TaskChangeToken.Position.end(LocalDateTime.of(2025, 12, 11, 20, 31)));
+
+        String encoded = TaskChangeTokenCodec.encode(token);
+
+        assertThat(encoded).doesNotContain("|", "=");
+        assertThat(TaskChangeTokenCodec.decode(encoded)).isEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("Deve retornar null para token ausente")
+    void deveRetornarNullParaTokenAusente() {
+        assertThat(TaskChangeTokenCodec.encode(null)).isNull();
+        assertThat(TaskChangeTokenCodec.decode(null)).isNull();
+        assertThat(TaskChangeTokenCodec.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para token inválido")
+    void deveLancarExcecaoParaTokenInvalido() {
+        assertThatThrownBy(() -> TaskChangeTokenCodec.decode("nao-e-um-token"))
+                .isInstanceOf(InvalidTaskException.class)
+                .hasMessageContaining("sincronização");
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.jtech.tasklist.adapters.input.web.mapper;
+
+import br.com.jtech.tasklist.domain.exception.InvalidTaskException;
+import br.com.jtech.tasklist.domain.model.TaskCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TaskCursorCodec - Testes Unitários")
+class TaskCursorCodecTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar o cursor sem perda")
+    void deveCodificarEDecodificarCursor() {
+        TaskCursor cursor = new TaskCursor(LocalDateTime.of(2025, 12, 11, 20, 30, 15, 123_456_000), UUID.randomUUID());
+
+        String token = TaskCursorCodec.encode(cursor);
+
+        assertThat(token).doesNotContain("|", "=");
+        assertThat(TaskCursorCodec.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Deve retornar null para cursor ausente")
+    void deveRetornarNullParaCursorAusente() {
+        assertThat(TaskCursorCodec.encode(null)).isNull();
+        assertThat(TaskCursorCodec.decode(null)).isNull();
+        assertThat(TaskCursorCodec.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para cursor inválido")
+    void deveLancarExcecaoParaCursorInvalido() {
+        assertThatThrownBy(() -> TaskCursorCodec.decode("nao-e-um-cursor"))
+                .isInstanceOf(InvalidTaskException.class)
+                .hasMessageContaining("Cursor");
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.jtech.tasklist.adapters.input.web.mapper;
+
+import br.com.jtech.tasklist.application.port.in.query.FindTasksQuery;
+import br.com.jtech.tasklist.application.port.in.query.SearchTasksQuery;
+import br.com.jtech.tasklist.domain.exception.TaskVersionConflictException;
+import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskCursor;
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TaskETags - Testes Unitários")
+class TaskETagsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 11, 20, 30);
+    private static final UUID ID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Deve gerar ETag estável por consulta e distinta para parâmetros diferentes")
+    void deveGerarETagPorConsulta() {
+        TaskCursor cursor = new TaskCursor(NOW, UUID.randomUUID());
+        FindTasksQuery query = new FindTasksQuery(TaskStatus.PENDING, cursor, 20);
+
+        String eTag = TaskETags.forPage("abc.1", query);
+
+        assertThat(eTag).matches("\"abc\\.1-[0-9a-f]{24}\"");
+        assertThat(TaskETags.forPage("abc.1", new FindTasksQuery(TaskStatus.PENDING, cursor, 20))).isEqualTo(eTag);
+        assertThat(TaskETags.forPage("abc.1", new FindTasksQuery(TaskStatus.PENDING, cursor, 21))).isNotEqualTo(eTag);
+        assertThat(TaskETags.forPage("abc.1", new FindTasksQuery(TaskStatus.PENDING, null, 20))).isNotEqualTo(eTag);
+        assertThat(TaskETags.forSearch("abc.1", new SearchTasksQuery("relatório", 0, 20)))
+                .isNotEqualTo(TaskETags.forSearch("abc.1", new SearchTasksQuery("relatório", 1, 20)));
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer a ETag da tarefa enquanto a revisão não mudar")
+    void deveReconhecerETagDaTarefaPelaRevisao() {
+        Task task = task(3L);
+        String eTag = TaskETags.forTask(task, "abc.1");
+
+        assertThat(TaskETags.findUnchangedSince("W/" + eTag + ", \"outra\"", task.getId(), "abc.1")).contains(eTag);
+        assertThat(TaskETags.findUnchangedSince(eTag, task.getId(), "abc.2")).isEmpty();
+        assertThat(TaskETags.findUnchangedSince(eTag, UUID.randomUUID(), "abc.1")).isEmpty();
+        assertThat(TaskETags.findUnchangedSince(null, task.getId(), "abc.1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve comparar apenas a versão quando a revisão mudar")
+    void deveCompararVersaoQuandoRevisaoMudar() {
+        String eTag = TaskETags.forTask(task(3L), "abc.1");
+
+        assertThat(TaskETags.matchesVersion(eTag, task(3L))).isTrue();
+        assertThat(TaskETags.matchesVersion(eTag, task(4L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve extrair a versão do If-Match com ou sem revisão")
+    void deveExtrairVersaoDoIfMatch() {
+        Task task = task(3L);
+
+        assertThat(TaskETags.parseVersion(TaskETags.forTask(task, "abc.1"), task.getId())).isEqualTo(3L);
+        assertThat(TaskETags.parseVersion(TaskETags.forTask(task), task.getId())).isEqualTo(3L);
+        assertThat(TaskETags.parseVersion("*", task.getId())).isNull();
+        assertThatThrownBy(() -> TaskETags.parseVersion(TaskETags.forTask(task), UUID.randomUUID()))
+                .isInstanceOf(TaskVersionConflictException.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tag fraca no If-Match, que exige comparação forte")
+    void deveRejeitarTagFracaNoIfMatch() {
+        Task task = task(3L);
+
+        assertThatThrownBy(() -> TaskETags.parseVersion("W/" + TaskETags.forTask(task), task.getId()))
+                .isInstanceOf(TaskVersionConflictException.class);
+    }
+
+    private static Task task(Long version) {
+        Task task = new Task(ID, "Tarefa", null, TaskStatus.PENDING, NOW, NOW);
+        task.setVersion(version);
+        return task;
+    }
+}
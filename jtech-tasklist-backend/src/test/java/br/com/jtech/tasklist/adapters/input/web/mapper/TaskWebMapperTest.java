@@ -46,6 +46,7 @@ class TaskWebMapperTest {
         request.setTitle("Atualizada");
         request.setDescription("Descrição nova");
         request.setStatus(TaskStatus.COMPLETED);
+        request.setVersion(7L);
 
         UpdateTaskCommand command = mapper.toUpdateTaskCommand(id, request);
 
@@ -54,6 +55,7 @@ class TaskWebMapperTest {
         assertThat(command.title()).isEqualTo("Atualizada");
         assertThat(command.description()).isEqualTo("Descrição nova");
         assertThat(command.status()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(command.expectedVersion()).isEqualTo(7L);
     }
 
     @Test
@@ -0,0 +1,125 @@
+package br.com.jtech.tasklist.adapters.output.persistence;
+
+import br.com.jtech.tasklist.adapters.output.notification.InMemoryTaskChangeBus;
+import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import br.com.jtech.tasklist.adapters.output.persistence.mapper.TaskPersistenceMapperImpl;
+import br.com.jtech.tasklist.config.infra.TaskListConfig;
+import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskChanges;
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TaskPersistenceAdapter.class, TaskPersistenceMapperImpl.class, TaskListConfig.class, InMemoryTaskChangeBus.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("TaskPersistenceAdapter - Contagem de Queries")
+class TaskPersistenceAdapterQueryCountTest {
+
+    @Autowired
+    private TaskPersistenceAdapter adapter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        now = LocalDateTime.of(2025, 12, 11, 20, 30);
+    }
+
+    @Test
+    @DisplayName("Deve inserir tarefa com exatamente um INSERT, sem SELECT prévio")
+    void deveInserirComUmaUnicaQuery() {
+        Task task = new Task("Nova Tarefa", "Descrição", now);
+
+        statistics.clear();
+        adapter.insert(task);
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar e reler a tarefa num único comando, sem SELECT antes nem depois")
+    void deveAtualizarComUpdateCondicional() {
+        UUID id = persistTask(TaskStatus.PENDING);
+
+        statistics.clear();
+        Optional<Task> updated = adapter.updateUnlessCompleted(
+                new TaskChanges(id, "Tarefa Alterada", "Descrição", TaskStatus.IN_PROGRESS, null, now.plusMinutes(1)));
+
+        assertThat(updated).get().extracting(Task::getTitle).isEqualTo("Tarefa Alterada");
+        assertThat(updated).get().extracting(Task::getStatus).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve alterar tarefa concluída, decidindo apenas pelo UPDATE")
+    void naoDeveAlterarTarefaConcluida() {
+        UUID id = persistTask(TaskStatus.COMPLETED);
+
+        statistics.clear();
+        Optional<Task> updated = adapter.updateUnlessCompleted(
+                new TaskChanges(id, "Tarefa Alterada", "Descrição", TaskStatus.PENDING, null, now.plusMinutes(1)));
+
+        assertThat(updated).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(entityManager.find(TaskEntity.class, id).getStatus()).isEqualTo(TaskStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Deve incrementar a versão e rejeitar atualização com versão desatualizada")
+    void deveControlarVersao() {
+        UUID id = persistTask(TaskStatus.PENDING);
+
+        Optional<Task> first = adapter.updateUnlessCompleted(
+                new TaskChanges(id, "Primeira", null, TaskStatus.IN_PROGRESS, 0L, now.plusMinutes(1)));
+        Optional<Task> stale = adapter.updateUnlessCompleted(
+                new TaskChanges(id, "Segunda", null, TaskStatus.IN_PROGRESS, 0L, now.plusMinutes(2)));
+
+        assertThat(first).get().extracting(Task::getVersion).isEqualTo(1L);
+        assertThat(stale).isEmpty();
+        assertThat(entityManager.find(TaskEntity.class, id).getTitle()).isEqualTo("Primeira");
+    }
+
+    private UUID persistTask(TaskStatus status) {
+        UUID id = UUID.randomUUID();
+        entityManager.persist(TaskEntity.builder()
+                .id(id)
+                .title("Tarefa")
+                .status(status)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        return id;
+    }
+}
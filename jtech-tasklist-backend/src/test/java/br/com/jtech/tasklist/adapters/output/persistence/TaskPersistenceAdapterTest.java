@@ -2,9 +2,32 @@ package br.com.jtech.tasklist.adapters.output.persistence;
 
 import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
 import br.com.jtech.tasklist.adapters.output.persistence.mapper.TaskPersistenceMapper;
+import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskTombstoneEntity;
 import br.com.jtech.tasklist.adapters.output.persistence.repositories.TaskRepository;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.TaskTombstoneRepository;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.TaskStateView;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.TaskStatusCount;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.TaskStatusView;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.TaskSummaryView;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.TaskTitleView;
+import br.com.jtech.tasklist.application.port.out.TaskChangeBusPort;
+import br.com.jtech.tasklist.config.infra.TaskListProperties;
+import br.com.jtech.tasklist.domain.event.TaskChangeNotice;
+import br.com.jtech.tasklist.domain.event.TaskChangeType;
+import br.com.jtech.tasklist.domain.exception.TaskChangeTokenExpiredException;
 import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskChangeSet;
+import br.com.jtech.tasklist.domain.model.TaskChangeToken;
+import br.com.jtech.tasklist.domain.model.TaskChanges;
+import br.com.jtech.tasklist.domain.model.TaskCursor;
+import br.com.jtech.tasklist.domain.model.TaskPage;
+import br.com.jtech.tasklist.domain.model.TaskSearchPage;
+import br.com.jtech.tasklist.domain.model.TaskState;
 import br.com.jtech.tasklist.domain.model.TaskStatus;
+import br.com.jtech.tasklist.domain.model.TaskStatusUpdate;
+import br.com.jtech.tasklist.domain.model.TaskSummary;
+import br.com.jtech.tasklist.domain.model.TaskSummaryPage;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,13 +35,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,9 +59,21 @@ class TaskPersistenceAdapterTest {
     @Mock
     private TaskRepository jpaRepository;
 
+    @Mock
+    private TaskTombstoneRepository tombstoneRepository;
+
     @Mock
     private TaskPersistenceMapper mapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TaskListProperties properties;
+
+    @Mock
+    private TaskChangeBusPort changeBus;
+
     @InjectMocks
     private TaskPersistenceAdapter adapter;
 
@@ -61,17 +104,166 @@ class TaskPersistenceAdapterTest {
     }
 
     @Test
-    @DisplayName("Deve salvar tarefa com sucesso")
+    @DisplayName("Deve inserir tarefa marcando a entidade como nova")
     void deveSalvarTarefaComSucesso() {
         when(mapper.toEntity(task)).thenReturn(entity);
         when(jpaRepository.save(entity)).thenReturn(entity);
         when(mapper.toDomain(entity)).thenReturn(task);
 
-        Task result = adapter.save(task);
+        Task result = adapter.insert(task);
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(id);
+        assertThat(entity.isNew()).isTrue();
         verify(jpaRepository).save(any(TaskEntity.class));
+        verify(changeBus).publish(new TaskChangeNotice(TaskChangeType.CREATED, id));
+    }
+
+    @Test
+    @DisplayName("Deve inserir em lote descarregando o contexto a cada bloco")
+    void deveInserirEmLotePorBlocos() {
+        TaskListProperties.Batch batch = new TaskListProperties.Batch();
+        batch.setChunkSize(2);
+        when(properties.getBatch()).thenReturn(batch);
+        when(mapper.toEntity(any(Task.class))).thenReturn(entity);
+        Task persisted = new Task(id, "Tarefa Teste", "Descrição", TaskStatus.PENDING, task.getCreatedAt(), task.getUpdatedAt());
+        persisted.setVersion(0L);
+        when(mapper.toDomain(entity)).thenReturn(persisted);
+
+        List<Task> result = adapter.insertAll(List.of(task, task, task));
+
+        assertThat(result).hasSize(3).allSatisfy(inserted -> assertThat(inserted.getVersion()).isZero());
+        verify(mapper, times(3)).toDomain(entity);
+        verify(entityManager, times(3)).persist(entity);
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar transição de status com UPDATE condicional que devolve a linha")
+    void deveAtualizarTarefa() {
+        TaskChanges changes = new TaskChanges(id, "Tarefa Teste", "Descrição", TaskStatus.IN_PROGRESS, 3L, LocalDateTime.now());
+        when(properties.getDb()).thenReturn(new TaskListProperties.Db());
+        when(jpaRepository.updateUnlessCompletedReturning(id, changes.title(), changes.description(), "IN_PROGRESS",
+                changes.updatedAt(), 3L)).thenReturn(Optional.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(task);
+
+        Optional<Task> result = adapter.updateUnlessCompleted(changes);
+
+        assertThat(result).contains(task);
+        verify(jpaRepository, never()).updateDetailsReturning(any(), any(), any(), any(), any());
+        verify(jpaRepository, never()).findById(any());
+        verify(jpaRepository, never()).save(any());
+        verify(changeBus).publish(new TaskChangeNotice(TaskChangeType.UPDATED, id));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar apenas os detalhes quando o status não for informado")
+    void deveAtualizarApenasDetalhes() {
+        TaskChanges changes = new TaskChanges(id, "Tarefa Teste", null, null, null, LocalDateTime.now());
+        when(properties.getDb()).thenReturn(new TaskListProperties.Db());
+        when(jpaRepository.updateDetailsReturning(id, changes.title(), null, changes.updatedAt(), null))
+                .thenReturn(Optional.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(task);
+
+        Optional<Task> result = adapter.updateUnlessCompleted(changes);
+
+        assertThat(result).contains(task);
+        verify(jpaRepository, never()).updateUnlessCompletedReturning(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve usar a tabela delta FINAL TABLE no H2")
+    void deveAtualizarComFinalTableNoH2() {
+        TaskChanges changes = new TaskChanges(id, "Tarefa Teste", null, TaskStatus.COMPLETED, null, LocalDateTime.now());
+        TaskListProperties.Db db = new TaskListProperties.Db();
+        db.setDialect(TaskListProperties.Db.Dialect.H2);
+        when(properties.getDb()).thenReturn(db);
+        when(jpaRepository.updateUnlessCompletedInFinalTable(id, changes.title(), null, "COMPLETED",
+                changes.updatedAt(), null)).thenReturn(Optional.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(task);
+
+        Optional<Task> result = adapter.updateUnlessCompleted(changes);
+
+        assertThat(result).contains(task);
+        verify(jpaRepository, never()).updateUnlessCompletedReturning(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar empty quando nenhuma linha for atualizada")
+    void deveRetornarEmptyAoAtualizarTarefaInexistente() {
+        TaskChanges changes = new TaskChanges(id, "Tarefa Teste", null, TaskStatus.COMPLETED, null, LocalDateTime.now());
+        when(properties.getDb()).thenReturn(new TaskListProperties.Db());
+        when(jpaRepository.updateUnlessCompletedReturning(any(), any(), any(), any(), any(), any()))
+                .thenReturn(Optional.empty());
+
+        Optional<Task> result = adapter.updateUnlessCompleted(changes);
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(mapper);
+        verifyNoInteractions(changeBus);
+    }
+
+    @Test
+    @DisplayName("Deve alterar status em bloco separando concluídas e inexistentes")
+    void deveAlterarStatusEmBloco() {
+        TaskListProperties.Batch batch = new TaskListProperties.Batch();
+        batch.setChunkSize(2);
+        when(properties.getBatch()).thenReturn(batch);
+        UUID completedId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskStatusView> current = List.of(statusView(id, TaskStatus.PENDING),
+                statusView(completedId, TaskStatus.COMPLETED));
+        when(jpaRepository.findStatusByIdIn(List.of(id, completedId))).thenReturn(current);
+        when(jpaRepository.findStatusByIdIn(List.of(missingId))).thenReturn(List.of());
+        when(jpaRepository.updateStatusUnlessCompleted(List.of(id), TaskStatus.COMPLETED, now)).thenReturn(1);
+
+        TaskStatusUpdate result = adapter.updateStatusUnlessCompleted(
+                List.of(id, completedId, missingId), TaskStatus.COMPLETED, now);
+
+        assertThat(result.updated()).containsExactly(id);
+        assertThat(result.alreadyCompleted()).containsExactly(completedId);
+        assertThat(result.notFound()).containsExactly(missingId);
+        verify(jpaRepository, times(1)).updateStatusUnlessCompleted(any(), any(), any());
+        verify(changeBus).publish(new TaskChangeNotice(TaskChangeType.UPDATED_BATCH, null));
+    }
+
+    @Test
+    @DisplayName("Não deve executar UPDATE quando nenhuma tarefa puder mudar de status")
+    void naoDeveAlterarStatusDeTarefasConcluidas() {
+        when(properties.getBatch()).thenReturn(new TaskListProperties.Batch());
+        List<TaskStatusView> current = List.of(statusView(id, TaskStatus.COMPLETED));
+        when(jpaRepository.findStatusByIdIn(List.of(id))).thenReturn(current);
+
+        TaskStatusUpdate result = adapter.updateStatusUnlessCompleted(List.of(id), TaskStatus.PENDING, LocalDateTime.now());
+
+        assertThat(result.updated()).isEmpty();
+        assertThat(result.alreadyCompleted()).containsExactly(id);
+        verify(jpaRepository, never()).updateStatusUnlessCompleted(any(), any(), any());
+        verifyNoInteractions(changeBus);
+    }
+
+    @Test
+    @DisplayName("Deve reclassificar tarefas concluídas ou excluídas entre a leitura e o UPDATE")
+    void deveReclassificarTarefasAlteradasEntreLeituraEUpdate() {
+        when(properties.getBatch()).thenReturn(new TaskListProperties.Batch());
+        UUID concludedId = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> ids = List.of(id, concludedId, deletedId);
+        List<TaskStatusView> before = List.of(statusView(id, TaskStatus.PENDING),
+                statusView(concludedId, TaskStatus.PENDING), statusView(deletedId, TaskStatus.PENDING));
+        List<TaskStatusView> after = List.of(statusView(id, TaskStatus.IN_PROGRESS),
+                statusView(concludedId, TaskStatus.COMPLETED));
+        when(jpaRepository.findStatusByIdIn(ids)).thenReturn(before, after);
+        when(jpaRepository.updateStatusUnlessCompleted(ids, TaskStatus.IN_PROGRESS, now)).thenReturn(1);
+
+        TaskStatusUpdate result = adapter.updateStatusUnlessCompleted(ids, TaskStatus.IN_PROGRESS, now);
+
+        assertThat(result.updated()).containsExactly(id);
+        assertThat(result.alreadyCompleted()).containsExactly(concludedId);
+        assertThat(result.notFound()).containsExactly(deletedId);
     }
 
     @Test
@@ -99,7 +291,7 @@ class TaskPersistenceAdapterTest {
     }
 
     @Test
-    @DisplayName("Deve listar todas as tarefas")
+    @DisplayName("Deve listar a primeira página sem próximo cursor")
     void deveListarTodasTarefas() {
         TaskEntity entity2 = TaskEntity.builder()
                 .id(UUID.randomUUID())
@@ -117,34 +309,263 @@ class TaskPersistenceAdapterTest {
         task2.setCreatedAt(LocalDateTime.now());
         task2.setUpdatedAt(LocalDateTime.now());
 
-        when(jpaRepository.findAll()).thenReturn(List.of(entity, entity2));
+        when(jpaRepository.findFirstPage(Limit.of(11))).thenReturn(List.of(entity, entity2));
         when(mapper.toDomain(entity)).thenReturn(task);
         when(mapper.toDomain(entity2)).thenReturn(task2);
 
-        List<Task> result = adapter.findAll();
+        TaskPage result = adapter.findPage(null, null, 10);
+
+        assertThat(result.items()).hasSize(2);
+        assertThat(result.nextCursor()).isNull();
+        verify(jpaRepository).findFirstPage(Limit.of(11));
+    }
+
+    @Test
+    @DisplayName("Deve buscar uma linha extra para gerar o próximo cursor")
+    void deveGerarProximoCursorQuandoHouverMaisItens() {
+        TaskCursor after = new TaskCursor(LocalDateTime.of(2025, 1, 1, 10, 0), UUID.randomUUID());
+        TaskEntity extra = TaskEntity.builder()
+                .id(UUID.randomUUID())
+                .title("Extra")
+                .status(TaskStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        when(jpaRepository.findPageAfter(after.createdAt(), after.id(), Limit.of(2)))
+                .thenReturn(List.of(entity, extra));
+        when(mapper.toDomain(entity)).thenReturn(task);
+
+        TaskPage result = adapter.findPage(null, after, 1);
 
-        assertThat(result).hasSize(2);
-        verify(jpaRepository).findAll();
+        assertThat(result.items()).containsExactly(task);
+        assertThat(result.nextCursor()).isEqualTo(TaskCursor.of(task));
+        verify(mapper, never()).toDomain(extra);
     }
 
     @Test
-    @DisplayName("Deve verificar se tarefa existe")
-    void deveVerificarSeTarefaExiste() {
-        when(jpaRepository.existsById(id)).thenReturn(true);
+    @DisplayName("Deve listar o resumo por projeção gerando o próximo cursor")
+    void deveListarResumoPorProjecao() {
+        TaskSummaryView first = mock(TaskSummaryView.class);
+        TaskSummaryView extra = mock(TaskSummaryView.class);
+        TaskSummary summary = new TaskSummary(id, "Tarefa Teste", TaskStatus.PENDING,
+                LocalDateTime.of(2025, 12, 11, 20, 30), LocalDateTime.of(2025, 12, 11, 20, 30));
+        when(jpaRepository.findFirstSummaryPageByStatus(TaskStatus.PENDING, Limit.of(2))).thenReturn(List.of(first, extra));
+        when(mapper.toSummary(first)).thenReturn(summary);
 
-        boolean exists = adapter.existsById(id);
+        TaskSummaryPage result = adapter.findSummaryPage(TaskStatus.PENDING, null, 1);
 
-        assertThat(exists).isTrue();
-        verify(jpaRepository).existsById(id);
+        assertThat(result.items()).containsExactly(summary);
+        assertThat(result.nextCursor()).isEqualTo(new TaskCursor(summary.createdAt(), id));
+        verify(jpaRepository, never()).findFirstPageByStatus(any(), any());
+        verify(mapper, never()).toDomain(any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar por padrão escapando curingas do termo")
+    void deveBuscarPorPadraoEscapandoCuringas() {
+        PageRequest pageable = PageRequest.of(2, 1);
+        when(properties.getSearch()).thenReturn(new TaskListProperties.Search());
+        when(jpaRepository.searchByPattern("%100!% !_ok!!%", pageable))
+                .thenReturn(new SliceImpl<>(List.of(entity), pageable, true));
+        when(mapper.toDomain(entity)).thenReturn(task);
+
+        TaskSearchPage result = adapter.search("100% _OK!", 2, 1);
+
+        assertThat(result.items()).containsExactly(task);
+        assertThat(result.hasMore()).isTrue();
+        verify(jpaRepository, never()).searchRanked(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Deve usar a busca ranqueada no modo texto completo")
+    void deveUsarBuscaRanqueada() {
+        TaskListProperties.Search search = new TaskListProperties.Search();
+        search.setMode(TaskListProperties.Search.Mode.FULL_TEXT);
+        search.setMaxCandidates(500);
+        PageRequest pageable = PageRequest.of(0, 20);
+        when(properties.getSearch()).thenReturn(search);
+        when(jpaRepository.searchRanked("relatório mensal", 500, pageable))
+                .thenReturn(new SliceImpl<>(List.of(entity), pageable, false));
+        when(mapper.toDomain(entity)).thenReturn(task);
+
+        TaskSearchPage result = adapter.search("relatório mensal", 0, 20);
+
+        assertThat(result.items()).containsExactly(task);
+        assertThat(result.hasMore()).isFalse();
+        verify(jpaRepository, never()).searchByPattern(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve usar as consultas por status quando houver filtro")
+    void deveBuscarPaginaPorStatus() {
+        TaskCursor after = new TaskCursor(LocalDateTime.of(2025, 1, 1, 10, 0), UUID.randomUUID());
+        when(jpaRepository.findFirstPageByStatus(TaskStatus.PENDING, Limit.of(11))).thenReturn(List.of(entity));
+        when(jpaRepository.findPageAfterByStatus(TaskStatus.PENDING, after.createdAt(), after.id(), Limit.of(11)))
+                .thenReturn(List.of());
+        when(mapper.toDomain(entity)).thenReturn(task);
+
+        TaskPage first = adapter.findPage(TaskStatus.PENDING, null, 10);
+        TaskPage next = adapter.findPage(TaskStatus.PENDING, after, 10);
+
+        assertThat(first.items()).containsExactly(task);
+        assertThat(next.items()).isEmpty();
+        verify(jpaRepository, never()).findFirstPage(any());
+        verify(jpaRepository, never()).findPageAfter(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve devolver apenas o token inicial quando não houver token anterior")
+    void deveDevolverTokenInicial() {
+        TaskListProperties.Changes changes = new TaskListProperties.Changes();
+        when(properties.getChanges()).thenReturn(changes);
+        LocalDateTime asOf = LocalDateTime.of(2025, 12, 11, 20, 30);
+
+        TaskChangeSet result = adapter.findChangesSince(null, asOf, 10);
+
+        assertThat(result.updated()).isEmpty();
+        assertThat(result.deleted()).isEmpty();
+        assertThat(result.next()).isEqualTo(TaskChangeToken.at(asOf.minus(changes.getSettleWindow())));
+        verifyNoInteractions(jpaRepository, tombstoneRepository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar alterações e exclusões até a janela de assentamento")
+    void deveBuscarAlteracoesEExclusoes() {
+        TaskListProperties.Changes changes = new TaskListProperties.Changes();
+        when(properties.getChanges()).thenReturn(changes);
+        LocalDateTime asOf = LocalDateTime.of(2025, 12, 11, 20, 30);
+        LocalDateTime until = asOf.minus(changes.getSettleWindow());
+        TaskChangeToken since = TaskChangeToken.at(asOf.minusHours(1));
+        UUID deletedId = UUID.randomUUID();
+        TaskTombstoneEntity first = new TaskTombstoneEntity(deletedId, asOf.minusMinutes(10));
+        TaskTombstoneEntity extra = new TaskTombstoneEntity(UUID.randomUUID(), asOf.minusMinutes(5));
+
+        when(jpaRepository.findChangedAfter(since.tasks().at(), since.tasks().id(), until, Limit.of(2)))
+                .thenReturn(List.of(entity));
+        when(tombstoneRepository.findDeletedAfter(since.tombstones().at(), since.tombstones().id(), until, Limit.of(2)))
+                .thenReturn(List.of(first, extra));
+        when(mapper.toDomain(entity)).thenReturn(task);
+
+        TaskChangeSet result = adapter.findChangesSince(since, asOf, 1);
+
+        assertThat(result.updated()).containsExactly(task);
+        assertThat(result.deleted()).containsExactly(deletedId);
+        assertThat(result.hasMore()).isTrue();
+        assertThat(result.next().tasks()).isEqualTo(TaskChangeToken.Position.end(until));
+        assertThat(result.next().tombstones()).isEqualTo(new TaskChangeToken.Position(first.getDeletedAt(), deletedId));
+    }
+
+    @Test
+    @DisplayName("Deve exigir recarga completa quando o token for anterior à retenção das exclusões")
+    void deveRejeitarTokenAnteriorARetencao() {
+        TaskListProperties.Changes changes = new TaskListProperties.Changes();
+        when(properties.getChanges()).thenReturn(changes);
+        LocalDateTime asOf = LocalDateTime.of(2025, 12, 11, 20, 30);
+        TaskChangeToken since = TaskChangeToken.at(asOf.minus(changes.getTombstoneRetention()).minusMinutes(1));
+
+        assertThatThrownBy(() -> adapter.findChangesSince(since, asOf, 10))
+                .isInstanceOf(TaskChangeTokenExpiredException.class);
+
+        verifyNoInteractions(jpaRepository, tombstoneRepository);
+    }
+
+    @Test
+    @DisplayName("Deve remover marcas de exclusão anteriores ao limite")
+    void deveRemoverMarcasDeExclusaoAntigas() {
+        LocalDateTime before = LocalDateTime.of(2025, 11, 11, 20, 30);
+        when(tombstoneRepository.deleteDeletedBefore(before)).thenReturn(3);
+
+        assertThat(adapter.deleteTombstonesBefore(before)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve converter a contagem agrupada por status")
+    void deveContarPorStatus() {
+        TaskStatusCount pending = mock(TaskStatusCount.class);
+        when(pending.getStatus()).thenReturn(TaskStatus.PENDING);
+        when(pending.getTotal()).thenReturn(7L);
+        when(jpaRepository.countGroupedByStatus()).thenReturn(List.of(pending));
+
+        Map<TaskStatus, Long> counts = adapter.countByStatus();
+
+        assertThat(counts).containsExactly(Map.entry(TaskStatus.PENDING, 7L));
+    }
+
+    @Test
+    @DisplayName("Deve percorrer tarefas em stream desanexando cada entidade")
+    void devePercorrerTarefasEmStream() {
+        when(jpaRepository.streamAll()).thenReturn(Stream.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(task);
+        List<Task> received = new ArrayList<>();
+
+        adapter.forEach(received::add);
+
+        assertThat(received).containsExactly(task);
+        verify(entityManager).detach(entity);
+    }
+
+    @Test
+    @DisplayName("Deve percorrer apenas ID e título das tarefas sem montar o domínio")
+    void devePercorrerTitulos() {
+        TaskTitleView view = mock(TaskTitleView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getTitle()).thenReturn("Tarefa Teste");
+        when(jpaRepository.streamAllTitles()).thenReturn(Stream.of(view));
+        Map<UUID, String> received = new LinkedHashMap<>();
+
+        adapter.forEachTitle(received::put);
+
+        assertThat(received).containsExactly(Map.entry(id, "Tarefa Teste"));
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("Deve consultar apenas status e versão da tarefa")
+    void deveConsultarStatusEVersao() {
+        TaskStateView view = mock(TaskStateView.class);
+        when(view.getStatus()).thenReturn(TaskStatus.COMPLETED);
+        when(view.getVersion()).thenReturn(4L);
+        when(jpaRepository.findStateById(id)).thenReturn(Optional.of(view));
+
+        Optional<TaskState> state = adapter.findStateById(id);
+
+        assertThat(state).contains(new TaskState(TaskStatus.COMPLETED, 4L));
+        verify(jpaRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("Deve deletar tarefa por ID")
     void deveDeletarTarefa() {
-        doNothing().when(jpaRepository).deleteById(id);
+        when(jpaRepository.deleteTaskById(id)).thenReturn(1);
+
+        LocalDateTime deletedAt = LocalDateTime.now();
+
+        int deleted = adapter.deleteById(id, deletedAt);
+
+        assertThat(deleted).isEqualTo(1);
+        verify(entityManager).persist(argThat((TaskTombstoneEntity tombstone) ->
+                tombstone.getId().equals(id) && tombstone.getDeletedAt().equals(deletedAt)));
+        verify(jpaRepository).deleteTaskById(id);
+        verify(jpaRepository, never()).existsById(any());
+        verify(jpaRepository, never()).deleteById(any());
+        verify(changeBus).publish(new TaskChangeNotice(TaskChangeType.DELETED, id));
+    }
+
+    @Test
+    @DisplayName("Não deve notificar exclusão de tarefa inexistente")
+    void naoDeveNotificarExclusaoInexistente() {
+        when(jpaRepository.deleteTaskById(id)).thenReturn(0);
 
-        adapter.deleteById(id);
+        assertThat(adapter.deleteById(id, LocalDateTime.now())).isZero();
+        verify(entityManager, never()).persist(any());
+        verifyNoInteractions(changeBus);
+    }
 
-        verify(jpaRepository).deleteById(id);
+    private static TaskStatusView statusView(UUID id, TaskStatus status) {
+        TaskStatusView view = mock(TaskStatusView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getStatus()).thenReturn(status);
+        return view;
     }
 }
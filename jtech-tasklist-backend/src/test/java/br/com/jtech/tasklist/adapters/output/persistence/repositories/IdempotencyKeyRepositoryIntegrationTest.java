@@ -0,0 +1,46 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("IdempotencyKeyRepository - Testes de Integração")
+class IdempotencyKeyRepositoryIntegrationTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 11, 20, 30);
+
+    @Autowired
+    private IdempotencyKeyRepository repository;
+
+    @Test
+    @DisplayName("Deve permitir assumir apenas reservas pendentes com prazo vencido")
+    void deveAssumirApenasReservaVencida() {
+        UUID crashed = UUID.randomUUID();
+        UUID retry = UUID.randomUUID();
+        repository.insertPending("chave", "hash", NOW, crashed, NOW.plusSeconds(30));
+
+        assertThat(repository.takeOverExpired("chave", "hash", retry, NOW.plusSeconds(10), NOW.plusSeconds(40)))
+                .isZero();
+        assertThat(repository.takeOverExpired("chave", "hash", retry, NOW.plusSeconds(31), NOW.plusSeconds(61)))
+                .isEqualTo(1);
+
+        assertThat(repository.complete("chave", crashed, 201, "{}", NOW.plusSeconds(32))).isZero();
+        assertThat(repository.complete("chave", retry, 201, "{}", NOW.plusSeconds(32))).isEqualTo(1);
+        assertThat(repository.takeOverExpired("chave", "hash", UUID.randomUUID(), NOW.plusHours(1), NOW.plusHours(2)))
+                .isZero();
+        assertThat(repository.findById("chave")).get()
+                .satisfies(key -> {
+                    assertThat(key.getResponseStatus()).isEqualTo(201);
+                    assertThat(key.getLockToken()).isNull();
+                });
+    }
+}
@@ -8,6 +8,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -101,6 +104,33 @@ class TaskRepositoryIntegrationTest {
         assertThat(updated.getStatus()).isEqualTo(TaskStatus.COMPLETED);
     }
 
+    @Test
+    @DisplayName("Deve alterar status em bloco sem alterar tarefas concluídas")
+    void deveAlterarStatusEmBlocoPreservandoConcluidas() {
+        TaskEntity pending = repository.save(taskEntity);
+        TaskEntity completed = repository.save(TaskEntity.builder()
+                .id(UUID.randomUUID())
+                .title("Concluída")
+                .status(TaskStatus.COMPLETED)
+                .createdAt(taskEntity.getCreatedAt())
+                .updatedAt(taskEntity.getUpdatedAt())
+                .build());
+        LocalDateTime now = LocalDateTime.now().plusMinutes(1);
+
+        int updated = repository.updateStatusUnlessCompleted(
+                List.of(pending.getId(), completed.getId()), TaskStatus.IN_PROGRESS, now);
+
+        assertThat(updated).isEqualTo(1);
+        TaskEntity reloaded = repository.findById(pending.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(repository.findById(completed.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(repository.findStatusByIdIn(List.of(pending.getId(), completed.getId(), UUID.randomUUID())))
+                .extracting(TaskStatusView::getId, TaskStatusView::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(pending.getId(), TaskStatus.IN_PROGRESS),
+                        tuple(completed.getId(), TaskStatus.COMPLETED));
+    }
+
     @Test
     @DisplayName("Deve deletar tarefa")
     void deveDeletarTarefa() {
@@ -113,6 +143,19 @@ class TaskRepositoryIntegrationTest {
         assertThat(found).isEmpty();
     }
 
+    @Test
+    @DisplayName("Deve deletar tarefa com um único DELETE retornando a quantidade afetada")
+    void deveDeletarTarefaRetornandoQuantidade() {
+        TaskEntity saved = repository.save(taskEntity);
+
+        int deleted = repository.deleteTaskById(saved.getId());
+        int deletedAgain = repository.deleteTaskById(saved.getId());
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(deletedAgain).isZero();
+        assertThat(repository.findById(saved.getId())).isEmpty();
+    }
+
     @Test
     @DisplayName("Deve verificar se tarefa existe")
     void deveVerificarSeTarefaExiste() {
@@ -124,4 +167,124 @@ class TaskRepositoryIntegrationTest {
         assertThat(exists).isTrue();
         assertThat(notExists).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve paginar por cursor de data de criação e ID")
+    void devePaginarPorCursor() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 0);
+        for (int i = 0; i < 5; i++) {
+            repository.save(TaskEntity.builder()
+                    .id(UUID.randomUUID())
+                    .title("Tarefa " + i)
+                    .status(TaskStatus.PENDING)
+                    .createdAt(base.plusMinutes(i))
+                    .updatedAt(base.plusMinutes(i))
+                    .build());
+        }
+
+        List<TaskEntity> firstPage = repository.findFirstPage(Limit.of(2));
+        TaskEntity last = firstPage.get(1);
+        List<TaskEntity> secondPage = repository.findPageAfter(last.getCreatedAt(), last.getId(), Limit.of(10));
+
+        assertThat(firstPage).extracting(TaskEntity::getTitle).containsExactly("Tarefa 0", "Tarefa 1");
+        assertThat(secondPage).extracting(TaskEntity::getTitle).containsExactly("Tarefa 2", "Tarefa 3", "Tarefa 4");
+    }
+
+    @Test
+    @DisplayName("Deve paginar o resumo das tarefas por cursor e status")
+    void devePaginarResumoPorCursor() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 0);
+        for (int i = 0; i < 5; i++) {
+            repository.save(TaskEntity.builder()
+                    .id(UUID.randomUUID())
+                    .title("Tarefa " + i)
+                    .description("Descrição longa " + i)
+                    .status(i % 2 == 0 ? TaskStatus.IN_PROGRESS : TaskStatus.PENDING)
+                    .createdAt(base.plusMinutes(i))
+                    .updatedAt(base.plusMinutes(i))
+                    .build());
+        }
+
+        List<TaskSummaryView> firstPage = repository.findFirstSummaryPage(Limit.of(2));
+        TaskSummaryView last = firstPage.get(1);
+        List<TaskSummaryView> secondPage = repository.findSummaryPageAfterByStatus(
+                TaskStatus.IN_PROGRESS, last.getCreatedAt(), last.getId(), Limit.of(10));
+
+        assertThat(firstPage).extracting(TaskSummaryView::getTitle).containsExactly("Tarefa 0", "Tarefa 1");
+        assertThat(firstPage.get(0).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(firstPage.get(0).getUpdatedAt()).isEqualTo(base);
+        assertThat(secondPage).extracting(TaskSummaryView::getTitle).containsExactly("Tarefa 2", "Tarefa 4");
+    }
+
+    @Test
+    @DisplayName("Deve buscar por termo priorizando ocorrências no título")
+    void deveBuscarPorTermoPriorizandoTitulo() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 0);
+        repository.save(TaskEntity.builder().id(UUID.randomUUID()).title("Revisar código")
+                .description("Incluir o Relatório mensal").status(TaskStatus.PENDING)
+                .createdAt(base.plusMinutes(2)).updatedAt(base.plusMinutes(2)).build());
+        repository.save(TaskEntity.builder().id(UUID.randomUUID()).title("Relatório anual")
+                .status(TaskStatus.PENDING).createdAt(base).updatedAt(base).build());
+        repository.save(TaskEntity.builder().id(UUID.randomUUID()).title("Meta de 100% atingida")
+                .status(TaskStatus.COMPLETED).createdAt(base.plusMinutes(1)).updatedAt(base.plusMinutes(1)).build());
+
+        Slice<TaskEntity> firstPage = repository.searchByPattern("%relatório%", PageRequest.of(0, 1));
+        Slice<TaskEntity> secondPage = repository.searchByPattern("%relatório%", PageRequest.of(1, 1));
+        Slice<TaskEntity> escaped = repository.searchByPattern("%0!%%", PageRequest.of(0, 10));
+
+        assertThat(firstPage.getContent()).extracting(TaskEntity::getTitle).containsExactly("Relatório anual");
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.getContent()).extracting(TaskEntity::getTitle).containsExactly("Revisar código");
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(escaped.getContent()).extracting(TaskEntity::getTitle).containsExactly("Meta de 100% atingida");
+    }
+
+    @Test
+    @DisplayName("Deve paginar por cursor filtrando por status e contar por status")
+    void devePaginarPorStatusEContar() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 0);
+        for (int i = 0; i < 6; i++) {
+            repository.save(TaskEntity.builder()
+                    .id(UUID.randomUUID())
+                    .title("Tarefa " + i)
+                    .status(i % 2 == 0 ? TaskStatus.IN_PROGRESS : TaskStatus.PENDING)
+                    .createdAt(base.plusMinutes(i))
+                    .updatedAt(base.plusMinutes(i))
+                    .build());
+        }
+
+        List<TaskEntity> firstPage = repository.findFirstPageByStatus(TaskStatus.IN_PROGRESS, Limit.of(2));
+        TaskEntity last = firstPage.get(1);
+        List<TaskEntity> secondPage = repository.findPageAfterByStatus(
+                TaskStatus.IN_PROGRESS, last.getCreatedAt(), last.getId(), Limit.of(10));
+        List<TaskStatusCount> counts = repository.countGroupedByStatus();
+
+        assertThat(firstPage).extracting(TaskEntity::getTitle).containsExactly("Tarefa 0", "Tarefa 2");
+        assertThat(secondPage).extracting(TaskEntity::getTitle).containsExactly("Tarefa 4");
+        assertThat(counts)
+                .extracting(TaskStatusCount::getStatus, TaskStatusCount::getTotal)
+                .containsExactlyInAnyOrder(
+                        tuple(TaskStatus.IN_PROGRESS, 3L),
+                        tuple(TaskStatus.PENDING, 3L));
+    }
+
+    @Test
+    @DisplayName("Deve buscar alterações após o token e antes do limite superior")
+    void deveBuscarAlteracoesEntreTokenELimite() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 0);
+        for (int i = 0; i < 5; i++) {
+            repository.save(TaskEntity.builder()
+                    .id(UUID.randomUUID())
+                    .title("Tarefa " + i)
+                    .status(TaskStatus.PENDING)
+                    .createdAt(base)
+                    .updatedAt(base.plusMinutes(i))
+                    .build());
+        }
+
+        List<TaskEntity> changed = repository.findChangedAfter(
+                base.plusMinutes(1), new UUID(0, 0), base.plusMinutes(4), Limit.of(10));
+
+        assertThat(changed).extracting(TaskEntity::getTitle).containsExactly("Tarefa 1", "Tarefa 2", "Tarefa 3");
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories;
+
+import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("TaskRepository - Testes de Integração com Postgres")
+class TaskRepositoryPostgresIntegrationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve ranquear título acima da descrição e desempatar pela mais recente")
+    void deveRanquearTituloAcimaDaDescricao() {
+        save("Revisar números", "Conferir o relatório mensal", 0);
+        save("Relatório mensal", "Fechamento do mês", 1);
+        save("Atualizar planilha", "Base do relatório mensal", 2);
+        save("Comprar café", null, 3);
+
+        Slice<TaskEntity> result = repository.searchRanked("relatório", 1000, PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).extracting(TaskEntity::getTitle)
+                .containsExactly("Relatório mensal", "Atualizar planilha", "Revisar números");
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve escolher as candidatas pelo título e pela data e manter o conjunto entre páginas")
+    void deveEscolherCandidatasDeFormaDeterministica() {
+        save("Relatório antigo", null, 0);
+        for (int i = 1; i <= 5; i++) {
+            save("Tarefa " + i, "Anexar relatório " + i, i);
+        }
+
+        Slice<TaskEntity> firstPage = repository.searchRanked("relatório", 3, PageRequest.of(0, 2));
+        Slice<TaskEntity> secondPage = repository.searchRanked("relatório", 3, PageRequest.of(1, 2));
+
+        assertThat(firstPage.getContent()).extracting(TaskEntity::getTitle)
+                .containsExactly("Relatório antigo", "Tarefa 5");
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.getContent()).extracting(TaskEntity::getTitle).containsExactly("Tarefa 4");
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar e devolver a tarefa com um único UPDATE ... RETURNING")
+    void deveAtualizarComReturning() {
+        UUID id = save("Tarefa", null, 0).getId();
+        entityManager.clear();
+        LocalDateTime updatedAt = BASE.plusHours(1);
+
+        assertThat(repository.updateUnlessCompletedReturning(id, "Alterada", "Descrição",
+                TaskStatus.COMPLETED.name(), updatedAt, 0L))
+                .get()
+                .satisfies(updated -> {
+                    assertThat(updated.getTitle()).isEqualTo("Alterada");
+                    assertThat(updated.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+                    assertThat(updated.getVersion()).isEqualTo(1L);
+                });
+        assertThat(repository.updateUnlessCompletedReturning(id, "Outra", null,
+                TaskStatus.PENDING.name(), updatedAt, null)).isEmpty();
+        assertThat(repository.updateDetailsReturning(id, "Detalhes", null, updatedAt, 0L)).isEmpty();
+        assertThat(repository.updateDetailsReturning(id, "Detalhes", null, updatedAt, null))
+                .get()
+                .extracting(TaskEntity::getVersion)
+                .isEqualTo(2L);
+    }
+
+    private TaskEntity save(String title, String description, int minutes) {
+        return repository.saveAndFlush(TaskEntity.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .description(description)
+                .status(TaskStatus.PENDING)
+                .createdAt(BASE.plusMinutes(minutes))
+                .updatedAt(BASE.plusMinutes(minutes))
+                .build());
+    }
+}
@@ -0,0 +1,184 @@
+package br.com.jtech.tasklist.application.service;
+
+import br.com.jtech.tasklist.application.port.out.IdempotencyKeyRepositoryPort;
+import br.com.jtech.tasklist.domain.exception.IdempotencyKeyInUseException;
+import br.com.jtech.tasklist.domain.exception.IdempotencyKeyReusedException;
+import br.com.jtech.tasklist.domain.exception.InvalidTaskException;
+import br.com.jtech.tasklist.domain.model.IdempotencyRecord;
+import br.com.jtech.tasklist.domain.model.IdempotentResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyGuard - Testes Unitários")
+class IdempotencyGuardTest {
+
+    private static final String HASH = IdempotencyGuard.fingerprint("Tarefa", "Descrição");
+
+    @Mock
+    private IdempotencyKeyRepositoryPort repository;
+
+    private IdempotencyGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = guard(Duration.ofMillis(300));
+        lenient().when(repository.claim(anyString(), anyString(), any(), any(), any())).thenReturn(true);
+        lenient().when(repository.complete(anyString(), any(), anyInt(), anyString(), any())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Deve executar uma vez e repetir a resposta nas chamadas seguintes")
+    void deveExecutarUmaVezERepetirResposta() {
+        AtomicInteger executions = new AtomicInteger();
+
+        IdempotentResponse first = guard.execute("chave", HASH, () -> {
+            executions.incrementAndGet();
+            return IdempotentResponse.of(201, "{\"id\":1}");
+        });
+        IdempotentResponse second = guard.execute("chave", HASH, () -> {
+            executions.incrementAndGet();
+            return IdempotentResponse.of(201, "{\"id\":2}");
+        });
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.replayed()).isFalse();
+        assertThat(second).isEqualTo(new IdempotentResponse(201, "{\"id\":1}", true));
+        assertThat(guard.replays()).isEqualTo(1);
+        verify(repository).complete(eq("chave"), any(), eq(201), eq("{\"id\":1}"), any());
+        verify(repository, times(1)).claim(anyString(), anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve repetir a resposta gravada por outra instância")
+    void deveRepetirRespostaDeOutraInstancia() {
+        when(repository.claim(anyString(), anyString(), any(), any(), any())).thenReturn(false);
+        when(repository.find("chave")).thenReturn(Optional.of(new IdempotencyRecord(HASH, 201, "{\"id\":1}")));
+
+        IdempotentResponse response = guard.execute("chave", HASH, () -> {
+            throw new AssertionError("não deveria executar");
+        });
+
+        assertThat(response).isEqualTo(new IdempotentResponse(201, "{\"id\":1}", true));
+        verify(repository, never()).complete(anyString(), any(), anyInt(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar chave reutilizada com outro conteúdo")
+    void deveRejeitarChaveComOutroConteudo() {
+        guard.execute("chave", HASH, () -> IdempotentResponse.of(201, "{}"));
+
+        assertThatThrownBy(() -> guard.execute("chave", IdempotencyGuard.fingerprint("Outra", null),
+                () -> IdempotentResponse.of(201, "{}")))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @Test
+    @DisplayName("Deve liberar a chave quando a execução falhar")
+    void deveLiberarChaveQuandoExecucaoFalhar() {
+        assertThatThrownBy(() -> guard.execute("chave", HASH, () -> {
+            throw new IllegalStateException("banco indisponível");
+        })).isInstanceOf(IllegalStateException.class);
+
+        IdempotentResponse retry = guard.execute("chave", HASH, () -> IdempotentResponse.of(201, "{}"));
+
+        verify(repository).release(eq("chave"), any());
+        assertThat(retry.replayed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve fazer requisições simultâneas com a mesma chave aguardarem a primeira")
+    void deveAguardarRequisicaoSimultanea() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        guard = guard(Duration.ofSeconds(5));
+
+        CompletableFuture<IdempotentResponse> first = CompletableFuture.supplyAsync(() ->
+                guard.execute("chave", HASH, () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return IdempotentResponse.of(201, "{}");
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<IdempotentResponse> duplicate = CompletableFuture.supplyAsync(() ->
+                guard.execute("chave", HASH, () -> {
+                    executions.incrementAndGet();
+                    return IdempotentResponse.of(201, "{}");
+                }));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).replayed()).isTrue();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve retornar conflito quando outra instância não concluir a tempo")
+    void deveRetornarConflitoQuandoOutraInstanciaDemorar() {
+        when(repository.claim(anyString(), anyString(), any(), any(), any())).thenReturn(false);
+        when(repository.find("chave")).thenReturn(Optional.of(new IdempotencyRecord(HASH, null, null)));
+
+        assertThatThrownBy(() -> guard.execute("chave", HASH, () -> IdempotentResponse.of(201, "{}")))
+                .isInstanceOf(IdempotencyKeyInUseException.class);
+    }
+
+    @Test
+    @DisplayName("Deve falhar e liberar a chave quando outra requisição assumir a reserva expirada")
+    void deveFalharQuandoReservaForAssumida() {
+        when(repository.complete(anyString(), any(), anyInt(), anyString(), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> guard.execute("chave", HASH, () -> IdempotentResponse.of(201, "{}")))
+                .isInstanceOf(IdempotencyKeyInUseException.class);
+
+        verify(repository).release(eq("chave"), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar chave vazia ou longa demais")
+    void deveRejeitarChaveInvalida() {
+        assertThatThrownBy(() -> guard.execute(" ", HASH, () -> IdempotentResponse.of(201, "{}")))
+                .isInstanceOf(InvalidTaskException.class);
+        assertThatThrownBy(() -> guard.execute("x".repeat(256), HASH, () -> IdempotentResponse.of(201, "{}")))
+                .isInstanceOf(InvalidTaskException.class);
+    }
+
+    private IdempotencyGuard guard(Duration waitTimeout) {
+        return new IdempotencyGuard(repository, TransactionOperations.withoutTransaction(), Clock.systemUTC(), 100,
+                Duration.ofHours(24), Duration.ofSeconds(30), waitTimeout, Duration.ofMillis(10), Duration.ofMinutes(10));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.jtech.tasklist.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RemoteChangeWindow - Testes Unitários")
+class RemoteChangeWindowTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final RemoteChangeWindow window = new RemoteChangeWindow(Duration.ofSeconds(3), nanos::get);
+
+    @Test
+    @DisplayName("Deve considerar recente apenas a tarefa alterada dentro da janela")
+    void deveConsiderarRecenteDentroDaJanela() {
+        UUID changed = UUID.randomUUID();
+
+        window.record(changed);
+
+        assertThat(window.isRecent(changed)).isTrue();
+        assertThat(window.isRecent(UUID.randomUUID())).isFalse();
+
+        nanos.addAndGet(Duration.ofSeconds(3).toNanos());
+
+        assertThat(window.isRecent(changed)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve considerar todas as tarefas recentes após uma ressincronização")
+    void deveConsiderarTodasRecentesAposRessincronizar() {
+        UUID id = UUID.randomUUID();
+        assertThat(window.isRecent(id)).isFalse();
+
+        window.recordAll();
+
+        assertThat(window.isRecent(id)).isTrue();
+
+        nanos.addAndGet(Duration.ofSeconds(3).toNanos());
+
+        assertThat(window.isRecent(id)).isFalse();
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.jtech.tasklist.application.service;
+
+import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import br.com.jtech.tasklist.domain.event.TaskChangeNotice;
+import br.com.jtech.tasklist.domain.event.TaskChangeType;
+import br.com.jtech.tasklist.domain.event.TaskChangedEvent;
+import br.com.jtech.tasklist.domain.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RemoteTaskChangeHandler - Testes Unitários")
+class RemoteTaskChangeHandlerTest {
+
+    @Mock
+    private TaskRepositoryPort repository;
+
+    @Mock
+    private TaskIdFilter idFilter;
+
+    @Mock
+    private TaskTitleIndex titleIndex;
+
+    @Mock
+    private TaskRevision revision;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @Mock
+    private RemoteChangeWindow recentChanges;
+
+    private LocalDateTime now;
+
+    private RemoteTaskChangeHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.of(2025, 12, 11, 20, 30);
+        Clock clock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        handler = new RemoteTaskChangeHandler(repository, idFilter, titleIndex, revision, cache, recentChanges, events,
+                clock, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Deve registrar ID e invalidar cache ao receber tarefa criada em outra instância")
+    void deveAplicarTarefaCriadaRemotamente() {
+        Task task = new Task("Remota", null, now);
+        when(repository.findLatestById(task.getId())).thenReturn(Optional.of(task));
+
+        handler.onChange(new TaskChangeNotice(TaskChangeType.CREATED, task.getId()));
+
+        verify(idFilter).put(task.getId());
+        verify(recentChanges).record(task.getId());
+        verify(titleIndex).put(task.getId(), "Remota");
+        verify(cache).evict(task.getId());
+        verify(revision).increment();
+        verify(events).publishEvent(argThat((TaskChangedEvent event) ->
+                event.type() == TaskChangeType.CREATED && event.task() == task));
+        assertThat(handler.received()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar cache sem consultar o banco ao receber exclusão")
+    void deveAplicarExclusaoRemota() {
+        UUID id = UUID.randomUUID();
+
+        handler.onChange(new TaskChangeNotice(TaskChangeType.DELETED, id));
+
+        verify(cache).evict(id);
+        verify(recentChanges).record(id);
+        verify(titleIndex).remove(id);
+        verify(revision).increment();
+        verify(repository, never()).findLatestById(any());
+        verify(events).publishEvent(argThat((TaskChangedEvent event) ->
+                event.type() == TaskChangeType.DELETED && event.id().equals(id)));
+    }
+
+    @Test
+    @DisplayName("Deve ressincronizar alterações e exclusões com margem de segurança")
+    void deveRessincronizarPorUpdatedAt() {
+        UUID id = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        doAnswer(invocation -> {
+            BiConsumer<UUID, String> consumer = invocation.getArgument(1);
+            consumer.accept(id, "Alterada em outra instância");
+            return null;
+        }).when(repository).forEachTitleUpdatedSince(eq(now.minusSeconds(30)), any());
+        doAnswer(invocation -> {
+            Consumer<UUID> consumer = invocation.getArgument(1);
+            consumer.accept(deletedId);
+            return null;
+        }).when(repository).forEachIdDeletedSince(eq(now.minusSeconds(30)), any());
+
+        handler.resync();
+
+        verify(idFilter).put(id);
+        verify(titleIndex).put(id, "Alterada em outra instância");
+        verify(titleIndex).remove(deletedId);
+        verify(recentChanges).recordAll();
+        verify(cache).clear();
+        verify(revision).increment();
+        verify(events).publishEvent(argThat((TaskChangedEvent event) ->
+                event.type() == TaskChangeType.RESYNC && event.count() == 2));
+        assertThat(handler.resyncs()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve ressincronizar ao receber criação em lote")
+    void deveRessincronizarAoReceberLote() {
+        handler.onChange(new TaskChangeNotice(TaskChangeType.CREATED_BATCH, null));
+
+        verify(repository).forEachTitleUpdatedSince(any(LocalDateTime.class), any());
+        verify(repository).forEachIdDeletedSince(any(LocalDateTime.class), any());
+        verify(cache).clear();
+    }
+
+    @Test
+    @DisplayName("Deve ressincronizar ao receber pedido de ressincronização")
+    void deveRessincronizarAoReceberPedido() {
+        handler.onChange(new TaskChangeNotice(TaskChangeType.RESYNC, null));
+
+        verify(repository).forEachIdDeletedSince(any(LocalDateTime.class), any());
+        assertThat(handler.resyncs()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.jtech.tasklist.application.service;
+
+import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskIdFilter - Testes Unitários")
+class TaskIdFilterTest {
+
+    @Mock
+    private TaskRepositoryPort repository;
+
+    @Test
+    @DisplayName("Deve reconhecer IDs carregados do repositório e descartar IDs desconhecidos")
+    @SuppressWarnings("unchecked")
+    void deveCarregarIdsDoRepositorio() {
+        List<UUID> ids = IntStream.range(0, 100).mapToObj(i -> UUID.randomUUID()).toList();
+        doAnswer(invocation -> {
+            ids.forEach(invocation.getArgument(0, Consumer.class));
+            return null;
+        }).when(repository).forEachId(any());
+        TaskIdFilter filter = new TaskIdFilter(1_000, 0.001);
+
+        filter.load(repository);
+
+        assertThat(filter.isReady()).isTrue();
+        assertThat(ids).allMatch(filter::mightContain);
+        assertThat(filter.insertions()).isEqualTo(100);
+        assertThat(filter.mightContain(UUID.randomUUID())).isFalse();
+        assertThat(filter.rejections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve contar apenas inserções que alteram o filtro")
+    void deveContarApenasInsercoesNovas() {
+        TaskIdFilter filter = new TaskIdFilter(1_000, 0.01);
+        UUID id = UUID.randomUUID();
+
+        filter.put(id);
+        double rate = filter.expectedFalsePositiveRate();
+        filter.put(id);
+        filter.put(id);
+
+        assertThat(filter.insertions()).isEqualTo(1);
+        assertThat(filter.expectedFalsePositiveRate()).isEqualTo(rate);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar qualquer ID enquanto não estiver carregado")
+    void deveAceitarTudoAntesDeCarregar() {
+        TaskIdFilter filter = new TaskIdFilter(1_000, 0.01);
+
+        assertThat(filter.mightContain(UUID.randomUUID())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve permanecer aberto quando a carga inicial falhar")
+    void devePermanecerAbertoQuandoCargaFalhar() {
+        doThrow(new IllegalStateException("banco indisponível")).when(repository).forEachId(any());
+        TaskIdFilter filter = new TaskIdFilter(1_000, 0.01);
+
+        filter.load(repository);
+
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContain(UUID.randomUUID())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer IDs adicionados após a carga")
+    void deveReconhecerIdsAdicionados() {
+        TaskIdFilter filter = new TaskIdFilter(1_000, 0.01);
+        filter.load(repository);
+        UUID id = UUID.randomUUID();
+
+        filter.put(id);
+
+        assertThat(filter.mightContain(id)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve manter a taxa de falsos positivos próxima da configurada")
+    void deveRespeitarTaxaDeFalsosPositivos() {
+        TaskIdFilter filter = new TaskIdFilter(10_000, 0.01);
+        filter.load(repository);
+        IntStream.range(0, 10_000).forEach(i -> filter.put(UUID.randomUUID()));
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID()))
+                .count();
+
+        assertThat(falsePositives).isLessThan(250);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+        assertThat(filter.memoryBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Deve aceitar qualquer ID quando desabilitado")
+    void deveAceitarTudoQuandoDesabilitado() {
+        TaskIdFilter filter = TaskIdFilter.disabled();
+
+        filter.load(repository);
+
+        assertThat(filter.mightContain(UUID.randomUUID())).isTrue();
+        verifyNoInteractions(repository);
+    }
+}
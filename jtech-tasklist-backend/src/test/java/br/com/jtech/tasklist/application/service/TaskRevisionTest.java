@@ -0,0 +1,28 @@
+package br.com.jtech.tasklist.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskRevision - Testes Unitários")
+class TaskRevisionTest {
+
+    @Test
+    @DisplayName("Deve mudar a revisão a cada incremento")
+    void deveMudarRevisaoACadaIncremento() {
+        TaskRevision revision = new TaskRevision();
+        String initial = revision.current();
+
+        revision.increment();
+
+        assertThat(revision.current()).isNotEqualTo(initial);
+        assertThat(revision.current()).isEqualTo(revision.current());
+    }
+
+    @Test
+    @DisplayName("Deve gerar revisões distintas entre instâncias")
+    void deveGerarRevisoesDistintasEntreInstancias() {
+        assertThat(new TaskRevision().current()).isNotEqualTo(new TaskRevision().current());
+    }
+}
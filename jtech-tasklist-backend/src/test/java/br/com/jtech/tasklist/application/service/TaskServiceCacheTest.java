@@ -0,0 +1,114 @@
+package br.com.jtech.tasklist.application.service;
+
+import br.com.jtech.tasklist.application.port.in.command.DeleteTaskCommand;
+import br.com.jtech.tasklist.application.port.in.command.UpdateTaskCommand;
+import br.com.jtech.tasklist.application.port.in.command.UpdateTaskStatusCommand;
+import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskChanges;
+import br.com.jtech.tasklist.domain.model.TaskStatus;
+import br.com.jtech.tasklist.domain.model.TaskStatusUpdate;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "tasklist.id-filter.enabled=false")
+@ActiveProfiles("test")
+@DisplayName("TaskService - Cache de Leitura")
+class TaskServiceCacheTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private TaskRepositoryPort repository;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache("tasks").clear();
+        LocalDateTime now = LocalDateTime.of(2025, 12, 11, 20, 30);
+        task = new Task(UUID.randomUUID(), "Tarefa em Cache", "Descrição", TaskStatus.PENDING, now, now);
+        when(repository.findById(task.getId())).thenReturn(Optional.of(task));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o repositório apenas na primeira leitura")
+    void deveServirLeiturasSeguintesDoCache() {
+        taskService.findById(task.getId());
+        taskService.findById(task.getId());
+        taskService.findById(task.getId());
+
+        verify(repository, times(1)).findById(task.getId());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "tasks").tag("result", "hit").functionCounter().count())
+                .isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve substituir a entrada em cache após atualização")
+    void deveAtualizarEntradaAposUpdate() {
+        Task updated = new Task(task.getId(), "Atualizada", null, TaskStatus.IN_PROGRESS, task.getCreatedAt(), task.getUpdatedAt());
+        when(repository.updateUnlessCompleted(any(TaskChanges.class))).thenReturn(Optional.of(updated));
+
+        taskService.findById(task.getId());
+        taskService.update(new UpdateTaskCommand(task.getId(), "Atualizada", null, TaskStatus.IN_PROGRESS, null));
+
+        assertThat(taskService.findById(task.getId()).getTitle()).isEqualTo("Atualizada");
+        verify(repository, times(1)).findById(task.getId());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a entrada em cache após exclusão")
+    void deveInvalidarEntradaAposDelete() {
+        when(repository.deleteById(eq(task.getId()), any(LocalDateTime.class))).thenReturn(1);
+
+        taskService.findById(task.getId());
+        taskService.delete(new DeleteTaskCommand(task.getId()));
+        taskService.findById(task.getId());
+
+        verify(repository, times(2)).findById(task.getId());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar apenas as tarefas alteradas pela mudança de status em bloco")
+    void deveInvalidarApenasTarefasAlteradasEmBloco() {
+        Task other = new Task(UUID.randomUUID(), "Outra", null, TaskStatus.PENDING, task.getCreatedAt(), task.getUpdatedAt());
+        when(repository.findById(other.getId())).thenReturn(Optional.of(other));
+        when(repository.updateStatusUnlessCompleted(eq(List.of(task.getId())), eq(TaskStatus.IN_PROGRESS), any()))
+                .thenReturn(new TaskStatusUpdate(List.of(task.getId()), List.of(), List.of()));
+
+        taskService.findById(task.getId());
+        taskService.findById(other.getId());
+        taskService.updateStatus(new UpdateTaskStatusCommand(List.of(task.getId()), TaskStatus.IN_PROGRESS));
+        taskService.findById(task.getId());
+        taskService.findById(other.getId());
+
+        verify(repository, times(2)).findById(task.getId());
+        verify(repository, times(1)).findById(other.getId());
+    }
+}
@@ -1,13 +1,38 @@
 package br.com.jtech.tasklist.application.service;
 
+import br.com.jtech.tasklist.application.port.in.command.CreateTaskBatchCommand;
 import br.com.jtech.tasklist.application.port.in.command.CreateTaskCommand;
 import br.com.jtech.tasklist.application.port.in.command.DeleteTaskCommand;
 import br.com.jtech.tasklist.application.port.in.command.UpdateTaskCommand;
+import br.com.jtech.tasklist.application.port.in.command.UpdateTaskStatusCommand;
+import br.com.jtech.tasklist.application.port.in.query.FindTaskChangesQuery;
+import br.com.jtech.tasklist.application.port.in.query.FindTasksQuery;
+import br.com.jtech.tasklist.application.port.in.query.SearchTasksQuery;
+import br.com.jtech.tasklist.application.port.in.query.SuggestTasksQuery;
+import br.com.jtech.tasklist.application.port.in.result.TaskBatchItemResult;
+import br.com.jtech.tasklist.application.port.out.TaskChangeBusPort;
 import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import br.com.jtech.tasklist.domain.event.TaskChangeType;
+import br.com.jtech.tasklist.domain.event.TaskChangedEvent;
 import br.com.jtech.tasklist.domain.exception.InvalidTaskException;
 import br.com.jtech.tasklist.domain.exception.TaskNotFoundException;
+import br.com.jtech.tasklist.domain.exception.TaskVersionConflictException;
 import br.com.jtech.tasklist.domain.model.Task;
+import br.com.jtech.tasklist.domain.model.TaskChangeSet;
+import br.com.jtech.tasklist.domain.model.TaskChangeToken;
+import br.com.jtech.tasklist.domain.model.TaskChanges;
+import br.com.jtech.tasklist.domain.model.TaskIdGenerator;
+import br.com.jtech.tasklist.domain.model.TaskCursor;
+import br.com.jtech.tasklist.domain.model.TaskPage;
+import br.com.jtech.tasklist.domain.model.TaskSearchPage;
+import br.com.jtech.tasklist.domain.model.TaskState;
+import br.com.jtech.tasklist.domain.model.TaskStats;
 import br.com.jtech.tasklist.domain.model.TaskStatus;
+import br.com.jtech.tasklist.domain.model.TaskStatusUpdate;
+import br.com.jtech.tasklist.domain.model.TaskSuggestion;
+import br.com.jtech.tasklist.domain.model.TaskSummary;
+import br.com.jtech.tasklist.domain.model.TaskSummaryPage;
+import br.com.jtech.tasklist.domain.model.TimeOrderedTaskIdGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +40,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -22,11 +52,14 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +72,33 @@ class TaskServiceTest {
     @Mock
     private Clock clock;
 
+    @Mock
+    private TaskIdGenerator idGenerator;
+
+    @Mock
+    private TaskIdFilter idFilter;
+
+    @Mock
+    private TaskTitleIndex titleIndex;
+
+    @Mock
+    private TaskRevision revision;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private RemoteChangeWindow recentChanges;
+
+    @Mock
+    private TaskChangeBusPort changeBus;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -53,6 +113,8 @@ class TaskServiceTest {
 
         lenient().when(clock.instant()).thenReturn(nowInstant);
         lenient().when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+        lenient().when(idFilter.mightContain(any(UUID.class))).thenReturn(true);
+        lenient().when(changeBus.hasCaughtUpWith(any(Instant.class))).thenReturn(true);
 
         validTask = new Task("Tarefa de Teste", "Descrição da tarefa", now);
     }
@@ -61,15 +123,79 @@ class TaskServiceTest {
     @DisplayName("Deve criar tarefa com sucesso")
     void deveCriarTarefaComSucesso() {
         CreateTaskCommand newTaskCommand = new CreateTaskCommand("Nova Tarefa", "Descrição");
+        UUID generatedId = UUID.randomUUID();
 
-        when(repository.save(any(Task.class))).thenReturn(validTask);
+        when(idGenerator.nextId()).thenReturn(generatedId);
+        when(repository.insert(any(Task.class))).thenReturn(validTask);
 
         Task result = taskService.create(newTaskCommand);
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isNotNull();
         assertThat(result.getTitle()).isEqualTo("Tarefa de Teste");
-        verify(repository, times(1)).save(any(Task.class));
+        verify(repository, times(1)).insert(argThat(task -> task.getId().equals(generatedId)));
+        verify(idFilter, times(1)).put(validTask.getId());
+        verify(titleIndex).put(validTask.getId(), "Tarefa de Teste");
+        verify(revision, times(1)).increment();
+        verify(events).publishEvent(argThat((TaskChangedEvent event) ->
+                event.type() == TaskChangeType.CREATED && event.id().equals(validTask.getId())));
+    }
+
+    @Test
+    @DisplayName("Deve desfazer cache e índice de título quando a transação da criação for desfeita")
+    void deveDesfazerEfeitosDaCriacaoEmRollback() {
+        when(idGenerator.nextId()).thenReturn(UUID.randomUUID());
+        when(repository.insert(any(Task.class))).thenReturn(validTask);
+        when(cacheManager.getCache("tasks")).thenReturn(cache);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            taskService.create(new CreateTaskCommand("Nova Tarefa", "Descrição"));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(cache).evict(validTask.getId());
+        verify(titleIndex).remove(validTask.getId());
+        verify(revision, times(2)).increment();
+    }
+
+    @Test
+    @DisplayName("Deve criar tarefas em lote reportando os itens inválidos")
+    void deveCriarTarefasEmLote() {
+        CreateTaskBatchCommand command = new CreateTaskBatchCommand(List.of(
+                new CreateTaskCommand("Primeira", "Descrição"),
+                new CreateTaskCommand(" ", "Sem título"),
+                new CreateTaskCommand("Terceira", null)
+        ));
+        when(idGenerator.nextId()).thenReturn(UUID.randomUUID(), UUID.randomUUID());
+        when(repository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setVersion(0L));
+            return tasks;
+        });
+
+        List<TaskBatchItemResult> results = taskService.createAll(command);
+
+        assertThat(results).extracting(TaskBatchItemResult::index).containsExactly(0, 1, 2);
+        assertThat(results).extracting(TaskBatchItemResult::created).containsExactly(true, false, true);
+        assertThat(results.get(1).error()).contains("título");
+        assertThat(results.get(2).task().getTitle()).isEqualTo("Terceira");
+        assertThat(results.get(2).task().getVersion()).isZero();
+        verify(repository, times(1)).insertAll(argThat(tasks -> tasks.size() == 2));
+    }
+
+    @Test
+    @DisplayName("Não deve acessar o repositório quando todo o lote for inválido")
+    void naoDeveInserirLoteTotalmenteInvalido() {
+        CreateTaskBatchCommand command = new CreateTaskBatchCommand(List.of(new CreateTaskCommand(null, null)));
+
+        List<TaskBatchItemResult> results = taskService.createAll(command);
+
+        assertThat(results).singleElement().extracting(TaskBatchItemResult::created).isEqualTo(false);
+        verify(repository, never()).insertAll(any());
     }
 
     @Test
@@ -79,7 +205,7 @@ class TaskServiceTest {
                 .isInstanceOf(InvalidTaskException.class)
                 .hasMessageContaining("título");
 
-        verify(repository, never()).save(any(Task.class));
+        verify(repository, never()).insert(any(Task.class));
     }
 
     @Test
@@ -96,6 +222,19 @@ class TaskServiceTest {
         verify(repository, times(1)).findById(taskId);
     }
 
+    @Test
+    @DisplayName("Deve buscar no primário tarefa alterada há pouco em outra instância")
+    void deveBuscarNoPrimarioTarefaAlteradaRemotamente() {
+        UUID taskId = validTask.getId();
+        when(recentChanges.isRecent(taskId)).thenReturn(true);
+        when(repository.findLatestById(taskId)).thenReturn(Optional.of(validTask));
+
+        Task result = taskService.findById(taskId);
+
+        assertThat(result).isSameAs(validTask);
+        verify(repository, never()).findById(taskId);
+    }
+
     @Test
     @DisplayName("Deve lançar exceção ao buscar tarefa inexistente")
     void deveLancarExcecaoAoBuscarTarefaInexistente() {
@@ -110,60 +249,278 @@ class TaskServiceTest {
     }
 
     @Test
-    @DisplayName("Deve listar todas as tarefas")
+    @DisplayName("Deve responder tarefa inexistente sem consultar o repositório quando o filtro descartar o ID")
+    void deveDescartarIdDesconhecidoPeloFiltro() {
+        UUID unknownId = UUID.randomUUID();
+        when(idFilter.mightContain(unknownId)).thenReturn(false);
+
+        assertThatThrownBy(() -> taskService.findById(unknownId))
+                .isInstanceOf(TaskNotFoundException.class)
+                .hasMessageContaining(unknownId.toString())
+                .satisfies(ex -> assertThat(ex.getStackTrace()).isEmpty());
+        assertThatThrownBy(() -> taskService.update(new UpdateTaskCommand(unknownId, "Tarefa", null, TaskStatus.PENDING, null)))
+                .isInstanceOf(TaskNotFoundException.class);
+        assertThatThrownBy(() -> taskService.delete(new DeleteTaskCommand(unknownId)))
+                .isInstanceOf(TaskNotFoundException.class);
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar no primário ID ausente do filtro enquanto o barramento não entregou sua criação")
+    void deveBuscarIdAindaNaoAvisadoPeloBarramento() {
+        UUID remoteId = new TimeOrderedTaskIdGenerator(Clock.fixed(nowInstant, ZoneId.systemDefault())).nextId();
+        when(idFilter.mightContain(remoteId)).thenReturn(false);
+        when(changeBus.hasCaughtUpWith(nowInstant)).thenReturn(false);
+        when(repository.findLatestById(remoteId)).thenReturn(Optional.of(validTask));
+
+        assertThat(taskService.findById(remoteId)).isSameAs(validTask);
+        verify(repository, never()).findById(remoteId);
+    }
+
+    @Test
+    @DisplayName("Deve listar a primeira página de tarefas")
     void deveListarTodasTarefas() {
         Task task2 = new Task("Segunda Tarefa", "Descrição 2", now);
-        when(repository.findAll()).thenReturn(Arrays.asList(validTask, task2));
+        when(repository.findPage(null, null, FindTasksQuery.DEFAULT_LIMIT))
+                .thenReturn(new TaskPage(Arrays.asList(validTask, task2), null));
 
-        List<Task> result = taskService.findAll();
+        TaskPage result = taskService.findAll(FindTasksQuery.firstPage());
 
         assertThat(result).isNotNull();
-        assertThat(result).hasSize(2);
-        assertThat(result).extracting(Task::getTitle)
+        assertThat(result.items()).hasSize(2);
+        assertThat(result.items()).extracting(Task::getTitle)
                 .containsExactly("Tarefa de Teste", "Segunda Tarefa");
-        verify(repository, times(1)).findAll();
+        assertThat(result.hasNext()).isFalse();
+        verify(repository, times(1)).findPage(null, null, FindTasksQuery.DEFAULT_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Deve listar o resumo das tarefas pela projeção do repositório")
+    void deveListarResumoDasTarefas() {
+        TaskSummary summary = new TaskSummary(validTask.getId(), validTask.getTitle(), TaskStatus.PENDING, now, now);
+        FindTasksQuery query = new FindTasksQuery(TaskStatus.PENDING, null, 10);
+        when(repository.findSummaryPage(TaskStatus.PENDING, null, 10))
+                .thenReturn(new TaskSummaryPage(List.of(summary), null));
+
+        TaskSummaryPage result = taskService.findSummaries(query);
+
+        assertThat(result.items()).containsExactly(summary);
+        verify(repository, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve buscar tarefas normalizando o termo e a paginação")
+    void deveBuscarTarefas() {
+        when(repository.search("relatório", 0, SearchTasksQuery.MAX_LIMIT))
+                .thenReturn(new TaskSearchPage(List.of(validTask), false));
+
+        TaskSearchPage result = taskService.search(new SearchTasksQuery("  relatório ", -1, 500));
+
+        assertThat(result.items()).containsExactly(validTask);
+        assertThatThrownBy(() -> new SearchTasksQuery("   ", 0, 20))
+                .isInstanceOf(InvalidTaskException.class)
+                .hasMessage("O termo de busca é obrigatório");
+        assertThatThrownBy(() -> new SearchTasksQuery("a".repeat(SearchTasksQuery.MAX_TEXT_LENGTH + 1), 0, 20))
+                .isInstanceOf(InvalidTaskException.class);
     }
 
     @Test
-    @DisplayName("Deve retornar lista vazia quando não houver tarefas")
+    @DisplayName("Deve sugerir tarefas pelo índice de títulos sem consultar o banco")
+    void deveSugerirTarefasPeloIndice() {
+        TaskSuggestion suggestion = new TaskSuggestion(validTask.getId(), validTask.getTitle());
+        when(titleIndex.suggest("tar", SuggestTasksQuery.MAX_LIMIT)).thenReturn(List.of(suggestion));
+
+        List<TaskSuggestion> result = taskService.suggest(new SuggestTasksQuery("tar", 100));
+
+        assertThat(result).containsExactly(suggestion);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve retornar página vazia quando não houver tarefas")
     void deveRetornarListaVaziaQuandoNaoHouverTarefas() {
-        when(repository.findAll()).thenReturn(List.of());
+        when(repository.findPage(null, null, FindTasksQuery.DEFAULT_LIMIT)).thenReturn(new TaskPage(List.of(), null));
+
+        TaskPage result = taskService.findAll(FindTasksQuery.firstPage());
+
+        assertThat(result.items()).isEmpty();
+        verify(repository, times(1)).findPage(null, null, FindTasksQuery.DEFAULT_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página ao máximo permitido")
+    void deveLimitarTamanhoDaPagina() {
+        TaskCursor cursor = TaskCursor.of(validTask);
+        when(repository.findPage(null, cursor, FindTasksQuery.MAX_LIMIT)).thenReturn(new TaskPage(List.of(), null));
+
+        taskService.findAll(new FindTasksQuery(null, cursor, 10_000));
+
+        verify(repository, times(1)).findPage(null, cursor, FindTasksQuery.MAX_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Deve repassar o filtro de status ao repositório")
+    void deveFiltrarPorStatus() {
+        when(repository.findPage(TaskStatus.IN_PROGRESS, null, FindTasksQuery.DEFAULT_LIMIT))
+                .thenReturn(new TaskPage(List.of(), null));
+
+        taskService.findAll(new FindTasksQuery(TaskStatus.IN_PROGRESS, null, FindTasksQuery.DEFAULT_LIMIT));
+
+        verify(repository, times(1)).findPage(TaskStatus.IN_PROGRESS, null, FindTasksQuery.DEFAULT_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Deve buscar alterações a partir do token informado")
+    void deveBuscarAlteracoesDesdeToken() {
+        TaskChangeToken since = TaskChangeToken.at(now.minusHours(1));
+        TaskChangeSet changes = new TaskChangeSet(List.of(validTask), List.of(), TaskChangeToken.at(now), false);
+        when(repository.findChangesSince(since, now, 50)).thenReturn(changes);
+
+        TaskChangeSet result = taskService.findChanges(new FindTaskChangesQuery(since, 50));
+
+        assertThat(result).isSameAs(changes);
+    }
+
+    @Test
+    @DisplayName("Deve retornar contagem por status preenchendo status sem tarefas")
+    void deveContarTarefasPorStatus() {
+        when(repository.countByStatus()).thenReturn(Map.of(TaskStatus.PENDING, 3L, TaskStatus.COMPLETED, 2L));
+
+        TaskStats stats = taskService.stats();
+
+        assertThat(stats.total()).isEqualTo(5);
+        assertThat(stats.countByStatus())
+                .containsEntry(TaskStatus.PENDING, 3L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 0L)
+                .containsEntry(TaskStatus.COMPLETED, 2L);
+    }
+
+    @Test
+    @DisplayName("Deve exportar tarefas repassando o consumidor ao repositório")
+    void deveExportarTarefas() {
+        Consumer<Task> consumer = task -> {};
 
-        List<Task> result = taskService.findAll();
+        taskService.exportAll(consumer);
 
-        assertThat(result).isEmpty();
-        verify(repository, times(1)).findAll();
+        verify(repository, times(1)).forEach(consumer);
     }
 
     @Test
     @DisplayName("Deve atualizar tarefa com sucesso")
     void deveAtualizarTarefaComSucesso() {
         UUID taskId = validTask.getId();
-        UpdateTaskCommand updateTaskCommand = new UpdateTaskCommand(taskId, "Tarefa Atualizada", "Nova descrição", TaskStatus.IN_PROGRESS);
+        UpdateTaskCommand updateTaskCommand = new UpdateTaskCommand(taskId, "Tarefa Atualizada", "Nova descrição", TaskStatus.IN_PROGRESS, null);
 
-        when(repository.findById(taskId)).thenReturn(Optional.of(validTask));
-        when(repository.save(any(Task.class))).thenReturn(validTask);
+        when(repository.updateUnlessCompleted(any(TaskChanges.class))).thenReturn(Optional.of(validTask));
 
         Task result = taskService.update(updateTaskCommand);
 
         assertThat(result).isNotNull();
-        verify(repository, times(1)).findById(taskId);
-        verify(repository, times(1)).save(any(Task.class));
+        verify(repository, times(1)).updateUnlessCompleted(
+                new TaskChanges(taskId, "Tarefa Atualizada", "Nova descrição", TaskStatus.IN_PROGRESS, null, now));
+        verify(repository, never()).findById(any(UUID.class));
+        verify(repository, never()).findStateById(any(UUID.class));
+        verify(titleIndex).put(taskId, validTask.getTitle());
+        verify(revision, times(1)).increment();
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao atualizar tarefa inexistente")
     void deveLancarExcecaoAoAtualizarTarefaInexistente() {
         UUID inexistentId = UUID.randomUUID();
-        UpdateTaskCommand updateTaskCommand = new UpdateTaskCommand(inexistentId, "Tarefa", "Descrição", TaskStatus.COMPLETED);
+        UpdateTaskCommand updateTaskCommand = new UpdateTaskCommand(inexistentId, "Tarefa", "Descrição", TaskStatus.COMPLETED, null);
 
-        when(repository.findById(inexistentId)).thenReturn(Optional.empty());
+        when(repository.updateUnlessCompleted(any(TaskChanges.class))).thenReturn(Optional.empty());
+        when(repository.findStateById(inexistentId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> taskService.update(updateTaskCommand))
                 .isInstanceOf(TaskNotFoundException.class);
 
-        verify(repository, times(1)).findById(inexistentId);
-        verify(repository, never()).save(any(Task.class));
+        verify(repository, times(1)).findStateById(inexistentId);
+        verify(repository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar conflito de versão quando a tarefa foi alterada por outra requisição")
+    void deveLancarConflitoDeVersao() {
+        UpdateTaskCommand command = new UpdateTaskCommand(validTask.getId(), "Minha edição", null, TaskStatus.IN_PROGRESS, 2L);
+
+        when(repository.updateUnlessCompleted(any(TaskChanges.class))).thenReturn(Optional.empty());
+        when(repository.findStateById(validTask.getId()))
+                .thenReturn(Optional.of(new TaskState(TaskStatus.IN_PROGRESS, 3L)));
+
+        assertThatThrownBy(() -> taskService.update(command))
+                .isInstanceOf(TaskVersionConflictException.class)
+                .hasMessageContaining("versão esperada: 2")
+                .hasMessageContaining("versão atual: 3");
+
+        verify(repository).updateUnlessCompleted(
+                new TaskChanges(validTask.getId(), "Minha edição", null, TaskStatus.IN_PROGRESS, 2L, now));
+        verify(revision, never()).increment();
+    }
+
+    @Test
+    @DisplayName("Deve reportar tarefa concluída quando a versão informada ainda é a atual")
+    void deveReportarTarefaConcluidaComVersaoAtual() {
+        UpdateTaskCommand command = new UpdateTaskCommand(validTask.getId(), "Reabrir", null, TaskStatus.PENDING, 2L);
+
+        when(repository.updateUnlessCompleted(any(TaskChanges.class))).thenReturn(Optional.empty());
+        when(repository.findStateById(validTask.getId()))
+                .thenReturn(Optional.of(new TaskState(TaskStatus.COMPLETED, 2L)));
+
+        assertThatThrownBy(() -> taskService.update(command))
+                .isInstanceOf(InvalidTaskException.class)
+                .hasMessageContaining("concluída");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar atualização com título vazio sem acessar o repositório")
+    void deveRejeitarAtualizacaoSemTitulo() {
+        UpdateTaskCommand updateTaskCommand = new UpdateTaskCommand(UUID.randomUUID(), " ", "Descrição", TaskStatus.PENDING, null);
+
+        assertThatThrownBy(() -> taskService.update(updateTaskCommand))
+                .isInstanceOf(InvalidTaskException.class);
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve alterar status em bloco descartando IDs repetidos e desconhecidos pelo filtro")
+    void deveAlterarStatusEmBloco() {
+        UUID completedId = UUID.randomUUID();
+        UUID unknownId = UUID.randomUUID();
+        when(idFilter.mightContain(unknownId)).thenReturn(false);
+        when(cacheManager.getCache("tasks")).thenReturn(cache);
+        when(repository.updateStatusUnlessCompleted(List.of(validTask.getId(), completedId), TaskStatus.COMPLETED, now))
+                .thenReturn(new TaskStatusUpdate(List.of(validTask.getId()), List.of(completedId), List.of()));
+
+        TaskStatusUpdate result = taskService.updateStatus(new UpdateTaskStatusCommand(
+                List.of(validTask.getId(), completedId, validTask.getId(), unknownId), TaskStatus.COMPLETED));
+
+        assertThat(result.updated()).containsExactly(validTask.getId());
+        assertThat(result.alreadyCompleted()).containsExactly(completedId);
+        assertThat(result.notFound()).containsExactly(unknownId);
+        verify(cache).evict(validTask.getId());
+        verify(cache, never()).evict(completedId);
+        verify(cache, never()).clear();
+        verify(revision, times(1)).increment();
+        verify(events).publishEvent(argThat((TaskChangedEvent event) ->
+                event.type() == TaskChangeType.UPDATED_BATCH && event.count() == 1));
+    }
+
+    @Test
+    @DisplayName("Não deve publicar evento quando nenhuma tarefa mudar de status")
+    void naoDevePublicarEventoSemAlteracaoDeStatus() {
+        UUID unknownId = UUID.randomUUID();
+        when(idFilter.mightContain(unknownId)).thenReturn(false);
+
+        TaskStatusUpdate result = taskService.updateStatus(
+                new UpdateTaskStatusCommand(List.of(unknownId), TaskStatus.COMPLETED));
+
+        assertThat(result.notFound()).containsExactly(unknownId);
+        verify(repository, never()).updateStatusUnlessCompleted(any(), any(), any());
+        verifyNoInteractions(events);
     }
 
     @Test
@@ -172,14 +529,17 @@ class TaskServiceTest {
         UUID taskId = validTask.getId();
         DeleteTaskCommand deleteTaskCommand = new DeleteTaskCommand(taskId);
 
-        when(repository.existsById(taskId)).thenReturn(true);
-        doNothing().when(repository).deleteById(taskId);
+        when(repository.deleteById(taskId, now)).thenReturn(1);
 
         assertThatCode(() -> taskService.delete(deleteTaskCommand))
                 .doesNotThrowAnyException();
 
-        verify(repository, times(1)).existsById(taskId);
-        verify(repository, times(1)).deleteById(taskId);
+        verify(repository, times(1)).deleteById(taskId, now);
+        verify(repository, never()).findStateById(any(UUID.class));
+        verify(titleIndex).remove(taskId);
+        verify(revision, times(1)).increment();
+        verify(events).publishEvent(argThat((TaskChangedEvent event) ->
+                event.type() == TaskChangeType.DELETED && event.id().equals(taskId)));
     }
 
     @Test
@@ -188,13 +548,15 @@ class TaskServiceTest {
         UUID inexistentId = UUID.randomUUID();
         DeleteTaskCommand deleteTaskCommand = new DeleteTaskCommand(inexistentId);
 
-        when(repository.existsById(inexistentId)).thenReturn(false);
+        when(repository.deleteById(inexistentId, now)).thenReturn(0);
 
         assertThatThrownBy(() -> taskService.delete(deleteTaskCommand))
                 .isInstanceOf(TaskNotFoundException.class);
 
-        verify(repository, times(1)).existsById(inexistentId);
-        verify(repository, never()).deleteById(any(UUID.class));
+        verify(repository, times(1)).deleteById(inexistentId, now);
+        verify(repository, never()).findStateById(any(UUID.class));
+        verify(revision, never()).increment();
+        verifyNoInteractions(events);
     }
 
     @Test
@@ -203,9 +565,11 @@ class TaskServiceTest {
         Task completedTask = new Task("Tarefa Concluída", "Desc", now);
         completedTask.changeStatus(TaskStatus.COMPLETED, now);
 
-        UpdateTaskCommand updateTaskCommand = new UpdateTaskCommand(completedTask.getId(), "Tarefa Atualizada", "Nova descrição", TaskStatus.IN_PROGRESS);
+        UpdateTaskCommand updateTaskCommand = new UpdateTaskCommand(completedTask.getId(), "Tarefa Atualizada", "Nova descrição", TaskStatus.IN_PROGRESS, null);
 
-        when(repository.findById(completedTask.getId())).thenReturn(Optional.of(completedTask));
+        when(repository.updateUnlessCompleted(any(TaskChanges.class))).thenReturn(Optional.empty());
+        when(repository.findStateById(completedTask.getId()))
+                .thenReturn(Optional.of(new TaskState(TaskStatus.COMPLETED, 1L)));
 
         assertThatThrownBy(() -> taskService.update(updateTaskCommand))
                 .isInstanceOf(InvalidTaskException.class)
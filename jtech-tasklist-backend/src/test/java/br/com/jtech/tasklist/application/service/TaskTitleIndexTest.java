@@ -0,0 +1,123 @@
+package br.com.jtech.tasklist.application.service;
+
+import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import br.com.jtech.tasklist.domain.model.TaskSuggestion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskTitleIndex - Testes Unitários")
+class TaskTitleIndexTest {
+
+    @Mock
+    private TaskRepositoryPort repository;
+
+    @Test
+    @DisplayName("Deve sugerir títulos carregados ignorando maiúsculas, acentos e espaços extras")
+    @SuppressWarnings("unchecked")
+    void deveSugerirTitulosCarregados() {
+        UUID budget = UUID.randomUUID();
+        UUID report = UUID.randomUUID();
+        doAnswer(invocation -> {
+            BiConsumer<UUID, String> consumer = invocation.getArgument(0, BiConsumer.class);
+            consumer.accept(budget, "Orçamento  anual");
+            consumer.accept(report, "Relatório");
+            consumer.accept(UUID.randomUUID(), "Organizar arquivos");
+            return null;
+        }).when(repository).forEachTitle(any());
+        TaskTitleIndex index = new TaskTitleIndex();
+
+        index.load(repository);
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.suggest("ORCAMENTO a", 10)).containsExactly(new TaskSuggestion(budget, "Orçamento  anual"));
+        assertThat(index.suggest("or", 10)).extracting(TaskSuggestion::title)
+                .containsExactly("Orçamento  anual", "Organizar arquivos");
+        assertThat(index.suggest("or", 1)).hasSize(1);
+        assertThat(index.suggest("  ", 10)).isEmpty();
+        assertThat(index.memoryBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Deve refletir criação, alteração e exclusão de títulos")
+    void deveAtualizarIncrementalmente() {
+        TaskTitleIndex index = new TaskTitleIndex();
+        index.load(repository);
+        UUID id = UUID.randomUUID();
+
+        index.put(id, "Comprar pão");
+        long memory = index.memoryBytes();
+        index.put(id, "Pagar contas");
+
+        assertThat(index.suggest("comprar", 10)).isEmpty();
+        assertThat(index.suggest("pag", 10)).containsExactly(new TaskSuggestion(id, "Pagar contas"));
+        assertThat(index.memoryBytes()).isEqualTo(memory);
+
+        index.remove(id);
+
+        assertThat(index.suggest("pag", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+        assertThat(index.memoryBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever alterações feitas durante a carga inicial")
+    @SuppressWarnings("unchecked")
+    void devePreservarAlteracoesDuranteCarga() {
+        UUID renamed = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        TaskTitleIndex index = new TaskTitleIndex();
+        doAnswer(invocation -> {
+            BiConsumer<UUID, String> consumer = invocation.getArgument(0, BiConsumer.class);
+            index.put(renamed, "Título novo");
+            index.remove(deleted);
+            consumer.accept(renamed, "Título antigo");
+            consumer.accept(deleted, "Tarefa excluída");
+            return null;
+        }).when(repository).forEachTitle(any());
+
+        index.load(repository);
+
+        assertThat(index.suggest("titulo", 10)).containsExactly(new TaskSuggestion(renamed, "Título novo"));
+        assertThat(index.suggest("tarefa", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve sugerir nada quando a carga inicial falhar")
+    void naoDeveSugerirQuandoCargaFalhar() {
+        doThrow(new IllegalStateException("banco indisponível")).when(repository).forEachTitle(any());
+        TaskTitleIndex index = new TaskTitleIndex();
+
+        index.load(repository);
+        index.put(UUID.randomUUID(), "Tarefa");
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.suggest("tar", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar tudo quando desabilitado")
+    void deveIgnorarTudoQuandoDesabilitado() {
+        TaskTitleIndex index = TaskTitleIndex.disabled();
+
+        index.load(repository);
+        index.put(UUID.randomUUID(), "Tarefa");
+
+        assertThat(index.suggest("tar", 10)).isEmpty();
+        assertThat(index.memoryBytes()).isZero();
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.jtech.tasklist.application.service;
+
+import br.com.jtech.tasklist.application.port.out.TaskRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TaskTombstonePruner - Testes Unitários")
+class TaskTombstonePrunerTest {
+
+    private final TaskRepositoryPort repository = mock(TaskRepositoryPort.class);
+    private final Clock clock = Clock.fixed(Instant.parse("2025-12-11T20:30:00Z"), ZoneOffset.UTC);
+    private final TaskTombstonePruner pruner = new TaskTombstonePruner(repository, clock, Duration.ofDays(30));
+
+    @Test
+    @DisplayName("Deve remover marcas de exclusão mais antigas que a retenção")
+    void deveRemoverMarcasAntigas() {
+        pruner.prune();
+
+        verify(repository).deleteTombstonesBefore(LocalDateTime.of(2025, 11, 11, 20, 30));
+    }
+
+    @Test
+    @DisplayName("Não deve propagar falha do banco na limpeza agendada")
+    void naoDevePropagarFalha() {
+        when(repository.deleteTombstonesBefore(any())).thenThrow(new IllegalStateException("banco indisponível"));
+
+        assertThatCode(pruner::prune).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.jtech.tasklist.config.infra.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimit - Testes Unitários")
+class AdaptiveConcurrencyLimitTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("Deve rejeitar acima do limite e liberar a vaga ao concluir")
+    void deveRejeitarAcimaDoLimite() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, nanos::get);
+
+        AdaptiveConcurrencyLimit.Permit first = limit.tryAcquire().orElseThrow();
+        limit.tryAcquire().orElseThrow();
+
+        assertThat(limit.tryAcquire()).isEmpty();
+        assertThat(limit.rejected()).isEqualTo(1);
+
+        first.onSuccess();
+        first.onSuccess();
+
+        assertThat(limit.getInFlight()).isEqualTo(1);
+        assertThat(limit.tryAcquire()).isPresent();
+        assertThat(limit.accepted()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve aumentar o limite enquanto a latência se mantiver estável")
+    void deveAumentarComLatenciaEstavel() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 100, nanos::get);
+
+        runRound(limit, Duration.ofMillis(10));
+
+        assertThat(limit.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite quando a latência crescer")
+    void deveReduzirComLatenciaCrescente() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 100, nanos::get);
+        runRound(limit, Duration.ofMillis(10));
+        int afterBaseline = limit.getLimit();
+
+        for (int round = 0; round < 5; round++) {
+            runRound(limit, Duration.ofMillis(100));
+        }
+
+        assertThat(limit.getLimit()).isLessThan(afterBaseline).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Deve recuar o limite quando a requisição falhar")
+    void deveRecuarQuandoRequisicaoFalhar() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 100, nanos::get);
+
+        limit.tryAcquire().orElseThrow().onDropped();
+
+        assertThat(limit.getLimit()).isEqualTo(18);
+    }
+
+    private void runRound(AdaptiveConcurrencyLimit limit, Duration latency) {
+        List<AdaptiveConcurrencyLimit.Permit> permits = new ArrayList<>();
+        Optional<AdaptiveConcurrencyLimit.Permit> permit;
+        while ((permit = limit.tryAcquire()).isPresent()) {
+            permits.add(permit.get());
+        }
+        nanos.addAndGet(latency.toNanos());
+        permits.forEach(AdaptiveConcurrencyLimit.Permit::onSuccess);
+    }
+}
@@ -0,0 +1,201 @@
+package br.com.jtech.tasklist.config.infra.concurrency;
+
+import br.com.jtech.tasklist.config.infra.metrics.StatementCountingInspector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimitFilter - Testes Unitários")
+class ConcurrencyLimitFilterTest {
+
+    private AdaptiveConcurrencyLimit reads;
+
+    private AdaptiveConcurrencyLimit lookups;
+
+    private AdaptiveConcurrencyLimit writes;
+
+    private ConcurrencyLimitFilter filter;
+
+    private final StatementCountingInspector inspector = new StatementCountingInspector();
+
+    @BeforeEach
+    void setUp() {
+        reads = new AdaptiveConcurrencyLimit(1, 1, 1);
+        lookups = new AdaptiveConcurrencyLimit(20, 1, 100);
+        writes = new AdaptiveConcurrencyLimit(20, 1, 100);
+        filter = new ConcurrencyLimitFilter(reads, lookups, writes, Duration.ofSeconds(2),
+                new ObjectMapper().findAndRegisterModules(), Clock.systemUTC());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar com 503 e Retry-After quando o limite de leitura estiver ocupado")
+    void deveRejeitarQuandoLimiteOcupado() throws Exception {
+        reads.tryAcquire().orElseThrow();
+        AtomicBoolean invoked = new AtomicBoolean();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tasks"), response, (req, res) -> invoked.set(true));
+
+        assertThat(invoked).isFalse();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("Servidor sobrecarregado");
+        assertThat(reads.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve manter limites separados para leituras e escritas")
+    void deveSepararLeiturasEEscritas() throws Exception {
+        reads.tryAcquire().orElseThrow();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/tasks"), response, (req, res) -> {
+            assertThat(writes.getInFlight()).isEqualTo(1);
+            inspector.inspect("insert into tasks");
+            ((MockHttpServletResponse) res).setStatus(201);
+        });
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(writes.getInFlight()).isZero();
+        assertThat(writes.accepted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve limitar o stream nem a exportação")
+    void naoDeveLimitarStreamNemExportacao() throws Exception {
+        reads.tryAcquire().orElseThrow();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tasks/stream"), response, (req, res) -> {});
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tasks/export"), response, (req, res) -> {});
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(reads.rejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve limitar preflight CORS nem sugestões em memória")
+    void naoDeveLimitarPreflightNemSugestoes() throws Exception {
+        reads.tryAcquire().orElseThrow();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("OPTIONS", "/api/v1/tasks"), response, (req, res) -> {});
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tasks/suggest"), response, (req, res) -> {});
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(reads.rejected()).isZero();
+        assertThat(writes.accepted()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve usar limite próprio para leitura por id")
+    void deveUsarLimiteProprioParaLeituraPorId() throws Exception {
+        reads.tryAcquire().orElseThrow();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tasks/0192f0c4-6b1e-7c3a-8d2e-5f4a3b2c1d0e"),
+                response, (req, res) -> assertThat(lookups.getInFlight()).isEqualTo(1));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(lookups.accepted()).isEqualTo(1);
+        assertThat(reads.rejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve usar respostas 304 como amostra de latência")
+    void naoDeveAmostrarRespostasNaoModificadas() throws Exception {
+        AtomicLong nanos = new AtomicLong();
+        reads = new AdaptiveConcurrencyLimit(10, 1, 100, nanos::get);
+        filter = new ConcurrencyLimitFilter(reads, lookups, writes, Duration.ofSeconds(2),
+                new ObjectMapper().findAndRegisterModules(), Clock.systemUTC());
+        List<AdaptiveConcurrencyLimit.Permit> busy = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            busy.add(reads.tryAcquire().orElseThrow());
+        }
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tasks"), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(304));
+        nanos.addAndGet(Duration.ofMillis(50).toNanos());
+        busy.forEach(AdaptiveConcurrencyLimit.Permit::onSuccess);
+
+        assertThat(reads.getInFlight()).isZero();
+        assertThat(reads.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("Não deve usar leituras por id respondidas sem acessar o banco como amostra de latência")
+    void naoDeveAmostrarLeiturasSemBanco() throws Exception {
+        AtomicLong nanos = new AtomicLong();
+        lookups = new AdaptiveConcurrencyLimit(10, 1, 100, nanos::get);
+        filter = new ConcurrencyLimitFilter(reads, lookups, writes, Duration.ofSeconds(2),
+                new ObjectMapper().findAndRegisterModules(), Clock.systemUTC());
+        List<AdaptiveConcurrencyLimit.Permit> busy = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            busy.add(lookups.tryAcquire().orElseThrow());
+        }
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tasks/0192f0c4-6b1e-7c3a-8d2e-5f4a3b2c1d0e"),
+                new MockHttpServletResponse(), (req, res) -> {});
+        nanos.addAndGet(Duration.ofMillis(50).toNanos());
+        busy.forEach(AdaptiveConcurrencyLimit.Permit::onSuccess);
+
+        assertThat(lookups.getInFlight()).isZero();
+        assertThat(lookups.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("Não deve usar a espera por uma Idempotency-Key em uso como amostra de latência")
+    void naoDeveAmostrarEsperaPorChaveDeIdempotencia() throws Exception {
+        AtomicLong nanos = new AtomicLong();
+        writes = new AdaptiveConcurrencyLimit(10, 1, 100, nanos::get);
+        filter = new ConcurrencyLimitFilter(reads, lookups, writes, Duration.ofSeconds(2),
+                new ObjectMapper().findAndRegisterModules(), Clock.systemUTC());
+        List<AdaptiveConcurrencyLimit.Permit> busy = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            busy.add(writes.tryAcquire().orElseThrow());
+        }
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/tasks"), new MockHttpServletResponse(),
+                (req, res) -> {
+                    inspector.inspect("insert into tasks");
+                    nanos.addAndGet(Duration.ofMillis(1).toNanos());
+                    ((MockHttpServletResponse) res).setStatus(201);
+                });
+        int limit = writes.getLimit();
+
+        for (int status : new int[]{200, 409}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/tasks");
+            request.addHeader("Idempotency-Key", "chave");
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                inspector.inspect("select * from idempotency_keys");
+                nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+                ((MockHttpServletResponse) res).setStatus(status);
+                ((MockHttpServletResponse) res).setHeader("Idempotent-Replayed", String.valueOf(status == 200));
+            });
+        }
+
+        assertThat(writes.getInFlight()).isEqualTo(9);
+        assertThat(writes.getLimit()).isEqualTo(limit);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite quando a requisição terminar com erro do servidor")
+    void deveReduzirLimiteEmErroDoServidor() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/v1/tasks/1"), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(500));
+
+        assertThat(writes.getLimit()).isEqualTo(18);
+        assertThat(writes.getInFlight()).isZero();
+    }
+}
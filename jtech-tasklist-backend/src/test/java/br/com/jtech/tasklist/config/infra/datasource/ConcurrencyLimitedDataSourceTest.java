@@ -0,0 +1,90 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitedDataSource - Testes Unitários")
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar nova conexão quando o limite estiver ocupado")
+    void deveRejeitarQuandoLimiteOcupado() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+
+        Connection first = dataSource.getConnection();
+
+        assertThat(dataSource.getAvailablePermits()).isZero();
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("1 conexões simultâneas");
+
+        first.close();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Deve liberar a permissão apenas uma vez mesmo com fechamentos repetidos")
+    void deveLiberarPermissaoUmaVez() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+
+        Connection opened = dataSource.getConnection();
+        opened.close();
+        opened.close();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão quando o pool falhar ao abrir a conexão")
+    void deveDevolverPermissaoQuandoPoolFalhar() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool esgotado"));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool esgotado");
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve repassar chamadas para a conexão real")
+    void deveRepassarChamadas() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        try (Connection opened = dataSource.getConnection()) {
+            assertThat(opened.getAutoCommit()).isFalse();
+        }
+    }
+}
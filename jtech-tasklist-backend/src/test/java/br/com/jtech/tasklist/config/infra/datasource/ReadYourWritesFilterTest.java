@@ -0,0 +1,87 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadYourWritesFilter - Testes Unitários")
+class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2025-12-11T20:30:00Z");
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private ReadYourWritesFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ReadYourWritesFilter(lagMonitor, Duration.ofSeconds(3), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Deve marcar o cliente que escreveu com o horário da escrita")
+    void deveMarcarClienteQueEscreveu() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/tasks"), response, (req, res) -> {});
+
+        assertThat(response.getHeader("Set-Cookie"))
+                .startsWith(ReadYourWritesFilter.COOKIE + "=" + NOW.toEpochMilli())
+                .contains("Max-Age=3", "HttpOnly", "SameSite=Lax");
+        verifyNoInteractions(lagMonitor);
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário enquanto a réplica não alcançar a escrita do cliente")
+    void deveLerDoPrimarioAposEscritaDoCliente() throws Exception {
+        Instant writtenAt = NOW.minusMillis(500);
+        when(lagMonitor.hasCaughtUpWith(writtenAt)).thenReturn(false);
+        AtomicBoolean forced = new AtomicBoolean();
+
+        filter.doFilter(read(writtenAt.toEpochMilli()), new MockHttpServletResponse(),
+                (req, res) -> forced.set(PrimaryRouting.isForced()));
+
+        assertThat(forced).isTrue();
+        assertThat(PrimaryRouting.isForced()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve liberar a réplica para clientes sem escrita recente")
+    void deveLiberarReplicaSemEscritaRecente() throws Exception {
+        Instant writtenAt = NOW.minusSeconds(10);
+        when(lagMonitor.hasCaughtUpWith(writtenAt)).thenReturn(true);
+        AtomicBoolean forced = new AtomicBoolean(true);
+
+        filter.doFilter(read(writtenAt.toEpochMilli()), new MockHttpServletResponse(),
+                (req, res) -> forced.set(PrimaryRouting.isForced()));
+        assertThat(forced).isFalse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tasks"), new MockHttpServletResponse(),
+                (req, res) -> forced.set(PrimaryRouting.isForced()));
+        assertThat(forced).isFalse();
+    }
+
+    private static MockHttpServletRequest read(Object writtenAt) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, String.valueOf(writtenAt)));
+        return request;
+    }
+}
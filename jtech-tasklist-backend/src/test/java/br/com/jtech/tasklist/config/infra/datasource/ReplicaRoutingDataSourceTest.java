@@ -0,0 +1,138 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReplicaRoutingDataSource - Roteamento entre primário e réplica")
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate replicaJdbc;
+    private Clock clock;
+    private ReplicaLagMonitor lagMonitor;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("CREATE TABLE replica_lag (seconds DOUBLE)");
+        replicaJdbc.update("INSERT INTO replica_lag VALUES (0)");
+
+        clock = Clock.fixed(Instant.parse("2025-12-11T20:30:00Z"), ZoneOffset.UTC);
+        lagMonitor = new ReplicaLagMonitor(replica, "SELECT seconds FROM replica_lag",
+                Duration.ofSeconds(2), Duration.ofSeconds(1), clock);
+        routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Deve enviar transações somente leitura para a réplica e escritas para o primário")
+    void deveRotearPorTipoDeTransacao() {
+        lagMonitor.refresh();
+
+        assertThat(readOnlyNode()).isEqualTo("replica");
+        assertThat(readWriteNode()).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+        assertThat(routing.replicaReads()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário enquanto o atraso da réplica não for medido")
+    void deveUsarPrimarioSemMedicao() {
+        assertThat(readOnlyNode()).isEqualTo("primary");
+        assertThat(routing.primaryFallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve voltar ao primário quando o atraso da réplica passar do limite")
+    void deveUsarPrimarioComReplicaAtrasada() {
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 10");
+        lagMonitor.refresh();
+
+        assertThat(lagMonitor.lagSeconds()).isEqualTo(10.0);
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 0.5");
+        lagMonitor.refresh();
+
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Deve voltar ao primário quando a medição do atraso falhar")
+    void deveUsarPrimarioQuandoMedicaoFalhar() {
+        lagMonitor.refresh();
+        replicaJdbc.execute("DROP TABLE replica_lag");
+        lagMonitor.refresh();
+
+        assertThat(lagMonitor.lagSeconds()).isNaN();
+        assertThat(readOnlyNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário quando a leitura pedir o primário explicitamente")
+    void deveLerDoPrimarioQuandoForcado() {
+        lagMonitor.refresh();
+
+        try (PrimaryRouting.Scope ignored = PrimaryRouting.force()) {
+            assertThat(readOnlyNode()).isEqualTo("primary");
+        }
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Deve considerar a réplica atualizada apenas depois do atraso medido")
+    void deveConsiderarReplicaAtualizadaAposAtraso() {
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 0.5");
+        lagMonitor.refresh();
+
+        assertThat(lagMonitor.hasCaughtUpWith(clock.instant().minusSeconds(1))).isFalse();
+        assertThat(lagMonitor.hasCaughtUpWith(clock.instant().minusSeconds(2))).isTrue();
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> node());
+    }
+
+    private String readWriteNode() {
+        return readWrite.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE node (name VARCHAR(20))");
+        setup.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
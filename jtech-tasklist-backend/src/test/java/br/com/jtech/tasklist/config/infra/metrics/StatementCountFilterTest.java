@@ -0,0 +1,59 @@
+package br.com.jtech.tasklist.config.infra.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StatementCountFilter - Testes Unitários")
+class StatementCountFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private StatementCountingInspector inspector;
+
+    private StatementCountFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        inspector = new StatementCountingInspector();
+        filter = new StatementCountFilter(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve registrar a quantidade de comandos SQL da requisição")
+    void deveRegistrarQuantidadeDeComandos() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks/123");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/tasks/{id}");
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+        });
+
+        DistributionSummary summary = meterRegistry.find("tasklist.db.statements")
+                .tag("method", "GET")
+                .tag("uri", "/api/v1/tasks/{id}")
+                .summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Não deve contar comandos fora de uma requisição")
+    void naoDeveContarForaDeRequisicao() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tasks"), new MockHttpServletResponse(),
+                (req, res) -> inspector.inspect("select 1"));
+
+        assertThat(inspector.inspect("select 2")).isEqualTo("select 2");
+        assertThat(StatementCountingInspector.stop()).isZero();
+    }
+}
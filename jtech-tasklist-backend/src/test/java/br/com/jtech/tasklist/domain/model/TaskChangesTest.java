@@ -0,0 +1,37 @@
+package br.com.jtech.tasklist.domain.model;
+
+import br.com.jtech.tasklist.domain.exception.InvalidTaskException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TaskChanges (Domain) - Testes Unitários")
+class TaskChangesTest {
+
+    private final UUID id = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("Deve rejeitar alteração com título inválido")
+    void deveRejeitarAlteracaoComTituloInvalido() {
+        assertThatThrownBy(() -> new TaskChanges(id, null, "Desc", null, null, now))
+                .isInstanceOf(InvalidTaskException.class)
+                .hasMessageContaining("título");
+
+        assertThatThrownBy(() -> new TaskChanges(id, "   ", "Desc", TaskStatus.IN_PROGRESS, 1L, now))
+                .isInstanceOf(InvalidTaskException.class)
+                .hasMessageContaining("título");
+    }
+
+    @Test
+    @DisplayName("Deve indicar alteração de status apenas quando informado")
+    void deveIndicarAlteracaoDeStatus() {
+        assertThat(new TaskChanges(id, "Título", null, TaskStatus.COMPLETED, null, now).changesStatus()).isTrue();
+        assertThat(new TaskChanges(id, "Título", null, null, null, now).changesStatus()).isFalse();
+    }
+}
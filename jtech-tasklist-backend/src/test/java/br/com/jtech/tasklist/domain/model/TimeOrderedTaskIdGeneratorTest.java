@@ -0,0 +1,116 @@
+package br.com.jtech.tasklist.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimeOrderedTaskIdGenerator - Testes Unitários")
+class TimeOrderedTaskIdGeneratorTest {
+
+    private static final long MILLIS = Instant.parse("2025-12-11T14:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("Deve extrair o horário de criação apenas de UUID versão 7")
+    void deveExtrairHorarioDoUuidVersao7() {
+        UUID id = new TimeOrderedTaskIdGenerator(Clock.fixed(Instant.ofEpochMilli(MILLIS), ZoneOffset.UTC)).nextId();
+
+        assertThat(TimeOrderedTaskIdGenerator.timestampOf(id)).contains(Instant.ofEpochMilli(MILLIS));
+        assertThat(TimeOrderedTaskIdGenerator.timestampOf(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve gerar UUID versão 7 com o horário do relógio nos 48 bits iniciais")
+    void deveGerarUuidVersao7() {
+        TimeOrderedTaskIdGenerator generator = new TimeOrderedTaskIdGenerator(
+                Clock.fixed(Instant.ofEpochMilli(MILLIS), ZoneOffset.UTC));
+
+        UUID id = generator.nextId();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(MILLIS);
+    }
+
+    @Test
+    @DisplayName("Deve gerar IDs crescentes dentro do mesmo milissegundo, inclusive além de 4096")
+    void deveGerarIdsCrescentesNoMesmoMilissegundo() {
+        TimeOrderedTaskIdGenerator generator = new TimeOrderedTaskIdGenerator(
+                Clock.fixed(Instant.ofEpochMilli(MILLIS), ZoneOffset.UTC));
+
+        UUID previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            assertThat(next.version()).isEqualTo(7);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Deve continuar crescente quando o relógio voltar no tempo")
+    void deveContinuarCrescenteQuandoRelogioVoltar() {
+        AtomicLong millis = new AtomicLong(MILLIS);
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        };
+        TimeOrderedTaskIdGenerator generator = new TimeOrderedTaskIdGenerator(clock);
+
+        UUID before = generator.nextId();
+        millis.addAndGet(-5_000);
+        UUID after = generator.nextId();
+
+        assertThat(after).isGreaterThan(before);
+        assertThat(after.getMostSignificantBits() >>> 16).isEqualTo(MILLIS);
+    }
+
+    @Test
+    @DisplayName("Deve gerar IDs únicos com chamadas concorrentes")
+    void deveGerarIdsUnicosComConcorrencia() throws Exception {
+        TimeOrderedTaskIdGenerator generator = new TimeOrderedTaskIdGenerator(Clock.systemUTC());
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(ids).hasSize(40_000);
+    }
+}
@@ -6,6 +6,7 @@ export const http = axios.create({
     "Content-Type": "application/json",
   },
   timeout: 15000,
+  withCredentials: true,
 });
 
 /**
@@ -1,26 +1,94 @@
+import axios from "axios";
 import { http } from "@/services/Http";
 import type {
   TaskResponse,
+  TaskPageResponse,
+  TaskStatsResponse,
+  TaskChangeEvent,
+  TaskChangesResponse,
+  TaskStatusUpdateResponse,
+  TaskSuggestionResponse,
+  TaskStatus,
   CreateTaskRequest,
   UpdateTaskRequest,
 } from "@/types/Task";
 
 const BASE_PATH = "/api/v1/tasks";
+const PAGE_SIZE = 100;
+const CREATE_ATTEMPTS = 3;
+const RETRY_DELAY_MS = 500;
+const CHANGE_EVENTS = [
+  "task.created",
+  "task.created_batch",
+  "task.updated",
+  "task.updated_batch",
+  "task.deleted",
+  "task.resync",
+];
 
 export const TaskService = {
-  async getAll(): Promise<TaskResponse[]> {
-    const { data } = await http.get<TaskResponse[]>(BASE_PATH);
+  async getPage(
+    after?: string | null,
+    limit = PAGE_SIZE,
+    status?: TaskStatus
+  ): Promise<TaskPageResponse> {
+    const { data } = await http.get<TaskPageResponse>(BASE_PATH, {
+      params: { after: after ?? undefined, limit, status },
+    });
     return data;
   },
 
+  async getStats(): Promise<TaskStatsResponse> {
+    const { data } = await http.get<TaskStatsResponse>(`${BASE_PATH}/stats`);
+    return data;
+  },
+
+  async suggest(prefix: string, limit = 8): Promise<TaskSuggestionResponse[]> {
+    const { data } = await http.get<TaskSuggestionResponse[]>(`${BASE_PATH}/suggest`, {
+      params: { prefix, limit },
+    });
+    return data;
+  },
+
+  async getChanges(since?: string | null): Promise<TaskChangesResponse> {
+    const { data } = await http.get<TaskChangesResponse>(`${BASE_PATH}/changes`, {
+      params: { since: since ?? undefined },
+    });
+    return data;
+  },
+
+  subscribe(onChange: (event: TaskChangeEvent) => void, onReset: () => void): () => void {
+    const source = new EventSource(`${http.defaults.baseURL}${BASE_PATH}/stream`);
+    const listener = (message: MessageEvent<string>) => onChange(JSON.parse(message.data));
+
+    let connected = false;
+
+    CHANGE_EVENTS.forEach((name) => source.addEventListener(name, listener));
+    source.addEventListener("open", () => {
+      if (connected) onReset();
+      connected = true;
+    });
+
+    return () => source.close();
+  },
+
   async getById(id: string): Promise<TaskResponse> {
     const { data } = await http.get<TaskResponse>(`${BASE_PATH}/${id}`);
     return data;
   },
 
-  async create(payload: CreateTaskRequest): Promise<TaskResponse> {
-    const { data } = await http.post<TaskResponse>(BASE_PATH, payload);
-    return data;
+  async create(payload: CreateTaskRequest, idempotencyKey: string): Promise<TaskResponse> {
+    for (let attempt = 1; ; attempt++) {
+      try {
+        const { data } = await http.post<TaskResponse>(BASE_PATH, payload, {
+          headers: { "Idempotency-Key": idempotencyKey },
+        });
+        return data;
+      } catch (err) {
+        if (attempt >= CREATE_ATTEMPTS || !isRetryable(err)) throw err;
+        await sleep(retryDelay(err, attempt));
+      }
+    }
   },
 
   async update(
@@ -34,9 +102,30 @@ export const TaskService = {
     return data;
   },
 
+  async updateStatus(ids: string[], status: TaskStatus): Promise<TaskStatusUpdateResponse> {
+    const { data } = await http.patch<TaskStatusUpdateResponse>(`${BASE_PATH}/status`, { ids, status });
+    return data;
+  },
+
   async delete(id: string): Promise<void> {
     await http.delete(`${BASE_PATH}/${id}`);
   },
 };
 
 export default TaskService;
+
+// Sem resposta, 409 (mesma chave em andamento) e 5xx podem ser repetidos com a mesma Idempotency-Key.
+function isRetryable(err: unknown): boolean {
+  if (!axios.isAxiosError(err)) return false;
+  const status = err.response?.status;
+  return status === undefined || status === 409 || status >= 500;
+}
+
+function retryDelay(err: unknown, attempt: number): number {
+  const retryAfter = axios.isAxiosError(err) ? Number(err.response?.headers?.["retry-after"]) : NaN;
+  return Number.isFinite(retryAfter) && retryAfter > 0 ? retryAfter * 1000 : RETRY_DELAY_MS * attempt;
+}
+
+function sleep(ms: number): Promise<void> {
+  return new Promise((resolve) => setTimeout(resolve, ms));
+}
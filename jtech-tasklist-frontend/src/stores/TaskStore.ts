@@ -2,17 +2,28 @@
 import { defineStore } from "pinia";
 import { computed, ref } from "vue";
 import TaskService from "@/services/TaskService";
-import type { TaskResponse, CreateTaskRequest, UpdateTaskRequest } from "@/types/Task";
+import type {
+  TaskResponse,
+  TaskChangeEvent,
+  TaskStatus,
+  TaskStatusUpdateResponse,
+  CreateTaskRequest,
+  UpdateTaskRequest,
+} from "@/types/Task";
 
 export const useTaskStore = defineStore("taskStore", () => {
   const tasks = ref<TaskResponse[]>([]);
+  const syncToken = ref<string | null>(null);
+  const nextCursor = ref<string | null>(null);
 
   const loadingList = ref(false);
+  const loadingMore = ref(false);
   const loadingMutation = ref(false);
 
   const error = ref<string | null>(null);
 
   const hasTasks = computed(() => tasks.value.length > 0);
+  const hasMore = computed(() => nextCursor.value !== null);
 
   function setError(err: unknown, fallback: string) {
     error.value = extractErrorMessage(err) ?? fallback;
@@ -59,7 +70,11 @@ export const useTaskStore = defineStore("taskStore", () => {
     clearError();
 
     try {
-      tasks.value = await TaskService.getAll();
+      const { nextToken } = await TaskService.getChanges();
+      const page = await TaskService.getPage(null);
+      tasks.value = page.items;
+      nextCursor.value = page.nextCursor ?? null;
+      syncToken.value = nextToken;
     } catch (err) {
       setError(err, "Erro ao carregar tarefas");
       throw err; // ✅ deixa a página decidir o que fazer
@@ -68,6 +83,71 @@ export const useTaskStore = defineStore("taskStore", () => {
     }
   }
 
+  async function loadMore() {
+    if (!nextCursor.value || loadingMore.value) return;
+    loadingMore.value = true;
+    clearError();
+
+    try {
+      const page = await TaskService.getPage(nextCursor.value);
+      // Tarefas já recebidas por sincronização ou eventos não são duplicadas.
+      const known = new Set(tasks.value.map((t) => t.id));
+      tasks.value.push(...page.items.filter((t) => !known.has(t.id)));
+      nextCursor.value = page.nextCursor ?? null;
+    } catch (err) {
+      setError(err, "Erro ao carregar mais tarefas");
+      throw err;
+    } finally {
+      loadingMore.value = false;
+    }
+  }
+
+  async function syncChanges() {
+    if (!syncToken.value) return loadTasks();
+
+    try {
+      let hasMore = true;
+      while (hasMore) {
+        const changes = await TaskService.getChanges(syncToken.value);
+        changes.updated.forEach(upsert);
+        const deleted = new Set(changes.deleted);
+        if (deleted.size) tasks.value = tasks.value.filter((t) => !deleted.has(t.id));
+        syncToken.value = changes.nextToken;
+        hasMore = changes.hasMore;
+      }
+    } catch (err: any) {
+      // 410: o token é mais antigo que as exclusões mantidas pelo servidor.
+      if (err?.response?.status === 410) return loadTasks();
+      setError(err, "Erro ao sincronizar tarefas");
+      throw err;
+    }
+  }
+
+  function upsert(task: TaskResponse) {
+    const idx = tasks.value.findIndex((t) => t.id === task.id);
+    // Tarefa antiga ainda não carregada chega com a sua página em loadMore.
+    if (idx === -1) {
+      if (!hasMore.value || task.version === 0) tasks.value.unshift(task);
+    } else if ((tasks.value[idx].version ?? -1) <= (task.version ?? 0)) tasks.value[idx] = task;
+  }
+
+  async function applyChange(event: TaskChangeEvent) {
+    switch (event.type) {
+      case "CREATED":
+      case "UPDATED":
+        if (event.task) upsert(event.task);
+        break;
+      case "DELETED":
+        tasks.value = tasks.value.filter((t) => t.id !== event.id);
+        break;
+      case "CREATED_BATCH":
+      case "UPDATED_BATCH":
+      case "RESYNC":
+        await syncChanges();
+        break;
+    }
+  }
+
   async function getTaskById(id: string): Promise<TaskResponse> {
     clearError();
 
@@ -92,12 +172,15 @@ export const useTaskStore = defineStore("taskStore", () => {
     }
   }
 
-  async function createTask(payload: CreateTaskRequest): Promise<TaskResponse> {
+  async function createTask(
+    payload: CreateTaskRequest,
+    idempotencyKey: string = crypto.randomUUID()
+  ): Promise<TaskResponse> {
     loadingMutation.value = true;
     clearError();
 
     try {
-      const created = await TaskService.create(normalizeCreatePayload(payload));
+      const created = await TaskService.create(normalizeCreatePayload(payload), idempotencyKey);
 
       tasks.value = [created, ...tasks.value.filter((t) => t.id !== created.id)];
       return created;
@@ -129,6 +212,22 @@ export const useTaskStore = defineStore("taskStore", () => {
     }
   }
 
+  async function updateStatuses(ids: string[], status: TaskStatus): Promise<TaskStatusUpdateResponse> {
+    loadingMutation.value = true;
+    clearError();
+
+    try {
+      const result = await TaskService.updateStatus(ids, status);
+      await syncChanges();
+      return result;
+    } catch (err) {
+      setError(err, "Erro ao alterar status das tarefas");
+      throw err;
+    } finally {
+      loadingMutation.value = false;
+    }
+  }
+
   async function deleteTask(id: string): Promise<void> {
     loadingMutation.value = true;
     clearError();
@@ -147,13 +246,19 @@ export const useTaskStore = defineStore("taskStore", () => {
   return {
     tasks,
     hasTasks,
+    hasMore,
     loadingList,
+    loadingMore,
     loadingMutation,
     error,
     loadTasks,
+    loadMore,
+    syncChanges,
+    applyChange,
     getTaskById,
     createTask,
     updateTask,
+    updateStatuses,
     deleteTask,
     clearError,
   };
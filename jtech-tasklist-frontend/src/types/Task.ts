@@ -17,6 +17,50 @@ export interface TaskResponse {
   statusDescription?: string | null;
   createdAt?: string;
   updatedAt?: string;
+  version?: number;
+}
+
+export interface TaskPageResponse {
+  items: TaskResponse[];
+  nextCursor?: string | null;
+}
+
+export interface TaskStatsResponse {
+  total: number;
+  byStatus: Record<TaskStatus, number>;
+}
+
+export interface TaskChangesResponse {
+  updated: TaskResponse[];
+  deleted: string[];
+  nextToken: string;
+  hasMore: boolean;
+}
+
+export interface TaskSuggestionResponse {
+  id: string;
+  title: string;
+}
+
+export interface TaskStatusUpdateResponse {
+  updated: string[];
+  alreadyCompleted: string[];
+  notFound: string[];
+}
+
+export type TaskChangeType =
+  | "CREATED"
+  | "CREATED_BATCH"
+  | "UPDATED"
+  | "UPDATED_BATCH"
+  | "DELETED"
+  | "RESYNC";
+
+export interface TaskChangeEvent {
+  type: TaskChangeType;
+  id?: string;
+  task?: TaskResponse;
+  count?: number;
 }
 
 export interface CreateTaskRequest {
@@ -28,4 +72,5 @@ export interface UpdateTaskRequest {
   title?: string;
   description?: string | null;
   status?: string;
+  version?: number;
 }